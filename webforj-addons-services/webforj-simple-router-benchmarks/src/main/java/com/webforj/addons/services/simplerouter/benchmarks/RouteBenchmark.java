@@ -0,0 +1,101 @@
+package com.webforj.addons.services.simplerouter.benchmarks;
+
+import com.webforj.addons.services.simplerouter.Route;
+import com.webforj.addons.services.simplerouter.RouteMatch;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks compiling a {@link Route}, matching it and reading its typed parameters, both from a
+ * {@link RouteMatch} and through the legacy lookups taking the route string.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RouteBenchmark {
+
+  private static final String TEMPLATE =
+      "customers/:customer:int/orders/:order:long/lines/:amount:num/:active:bool/:note";
+  private static final String PATH = "customers/42/orders/9000000000/lines/12.50/true/urgent";
+  private static final String MISMATCH = "customers/42/orders/abc/lines/12.50/true/urgent";
+
+  private Route route;
+
+  /** Compiles the route shared by the matching benchmarks. */
+  @Setup
+  public void setUp() {
+    route = new Route(TEMPLATE);
+  }
+
+  /**
+   * Compiles a route template.
+   *
+   * @return the compiled route
+   */
+  @Benchmark
+  public Route construct() {
+    return new Route(TEMPLATE);
+  }
+
+  /**
+   * Matches a route string satisfying every typed segment.
+   *
+   * @return whether the route string matched
+   */
+  @Benchmark
+  public boolean matches() {
+    return route.matches(PATH);
+  }
+
+  /**
+   * Matches a route string failing the validation of a typed segment.
+   *
+   * @return whether the route string matched
+   */
+  @Benchmark
+  public boolean matchesInvalid() {
+    return route.matches(MISMATCH);
+  }
+
+  /**
+   * Matches a route string and reads every parameter from the match.
+   *
+   * @param blackhole the sink for the parameter values
+   */
+  @Benchmark
+  public void extractFromMatch(Blackhole blackhole) {
+    RouteMatch match = route.match(PATH);
+    blackhole.consume(match.getInt("customer"));
+    blackhole.consume(match.getLong("order"));
+    blackhole.consume(match.getNum("amount"));
+    blackhole.consume(match.getBool("active"));
+    blackhole.consume(match.getString("note"));
+  }
+
+  /**
+   * Reads every parameter through the lookups taking the route string.
+   *
+   * @param blackhole the sink for the parameter values
+   */
+  @Benchmark
+  public void extractFromRouteString(Blackhole blackhole) {
+    blackhole.consume(route.getInt(PATH, "customer"));
+    blackhole.consume(route.getString(PATH, "order"));
+    blackhole.consume(route.getNum(PATH, "amount"));
+    blackhole.consume(route.getBool(PATH, "active"));
+    blackhole.consume(route.getString(PATH, "note"));
+  }
+}
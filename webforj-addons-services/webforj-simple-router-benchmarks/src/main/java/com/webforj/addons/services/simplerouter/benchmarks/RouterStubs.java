@@ -0,0 +1,64 @@
+package com.webforj.addons.services.simplerouter.benchmarks;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+import com.webforj.App;
+import com.webforj.Page;
+import com.webforj.Request;
+import com.webforj.environment.ObjectTable;
+import java.util.ArrayList;
+import java.util.List;
+import org.mockito.MockedStatic;
+
+/**
+ * Stubs the webforJ environment the router depends on ({@link Request}, {@link Page}, {@link App}
+ * and {@link ObjectTable}) so that routers can be created and navigated outside of a running
+ * application. The stubs are bound to the thread that installs them.
+ */
+final class RouterStubs implements AutoCloseable {
+
+  static final String BASE_URL = "http://localhost:8888/webapp/app";
+
+  private final List<MockedStatic<?>> mocks = new ArrayList<>();
+
+  private RouterStubs() {}
+
+  /**
+   * Installs the stubs on the current thread.
+   *
+   * @return the installed stubs, to be closed once the benchmark is done
+   */
+  static RouterStubs install() {
+    RouterStubs stubs = new RouterStubs();
+
+    Request request = mock(Request.class);
+    when(request.getUrl()).thenReturn(BASE_URL + "/");
+    MockedStatic<Request> requestMock = stubs.add(mockStatic(Request.class));
+    requestMock.when(Request::getCurrent).thenReturn(request);
+
+    Page page = mock(Page.class);
+    MockedStatic<Page> pageMock = stubs.add(mockStatic(Page.class));
+    pageMock.when(Page::getCurrent).thenReturn(page);
+
+    MockedStatic<App> appMock = stubs.add(mockStatic(App.class));
+    appMock.when(App::getApplicationName).thenReturn("app");
+
+    MockedStatic<ObjectTable> objectTableMock = stubs.add(mockStatic(ObjectTable.class));
+    objectTableMock.when(() -> ObjectTable.get("webforj_base_url")).thenReturn(BASE_URL);
+
+    return stubs;
+  }
+
+  private <T> MockedStatic<T> add(MockedStatic<T> mock) {
+    mocks.add(mock);
+    return mock;
+  }
+
+  @Override
+  public void close() {
+    mocks.forEach(MockedStatic::close);
+    mocks.clear();
+  }
+}
@@ -0,0 +1,102 @@
+package com.webforj.addons.services.simplerouter.benchmarks;
+
+import com.webforj.addons.services.simplerouter.SimpleRouter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link SimpleRouter#navigate(String)} end to end against synthetic route tables. The
+ * table mixes static routes, typed parameters and wildcards, one third each, spread over as many
+ * top-level sections as there are routes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SimpleRouterBenchmark {
+
+  @Param({"10", "100", "1000"})
+  private int routeCount;
+
+  private RouterStubs stubs;
+  private SimpleRouter router;
+  private String staticRoute;
+  private String typedRoute;
+  private String wildcardRoute;
+
+  /** Installs the environment stubs and registers the synthetic route table. */
+  @Setup(Level.Trial)
+  public void setUp() {
+    stubs = RouterStubs.install();
+    router = SimpleRouter.getInstance();
+
+    for (int i = 0; i < routeCount; i++) {
+      router.onRouteMatch(e -> {}, routeString(i));
+    }
+
+    int middle = routeCount / 2;
+    staticRoute = "section" + (middle - middle % 3) + "/overview";
+    typedRoute = "section" + (middle - middle % 3 + 1) + "/42/details/history";
+    wildcardRoute = "section" + (middle - middle % 3 + 2) + "/files/a/b/c/report.pdf";
+  }
+
+  /**
+   * Returns the template of the synthetic route at the given index.
+   *
+   * @param index the index of the route
+   * @return the route template
+   */
+  private static String routeString(int index) {
+    if (index % 3 == 0) {
+      return "section" + index + "/overview";
+    }
+    if (index % 3 == 1) {
+      return "section" + index + "/:id:int/details/:tab";
+    }
+    return "section" + index + "/files/*";
+  }
+
+  /** Removes the environment stubs. */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    stubs.close();
+  }
+
+  /** Navigates to a static route. */
+  @Benchmark
+  public void navigateStatic() {
+    router.navigate(staticRoute);
+  }
+
+  /** Navigates to a route with typed parameters. */
+  @Benchmark
+  public void navigateTyped() {
+    router.navigate(typedRoute);
+  }
+
+  /** Navigates to a route ending with a wildcard. */
+  @Benchmark
+  public void navigateWildcard() {
+    router.navigate(wildcardRoute);
+  }
+
+  /** Navigates to a route string no route matches. */
+  @Benchmark
+  public void navigateMiss() {
+    router.navigate("unknown/route/string");
+  }
+}
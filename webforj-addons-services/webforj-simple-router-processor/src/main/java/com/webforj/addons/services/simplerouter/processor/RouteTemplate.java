@@ -0,0 +1,70 @@
+package com.webforj.addons.services.simplerouter.processor;
+
+import com.webforj.addons.services.simplerouter.Route;
+import com.webforj.addons.services.simplerouter.RouteParameter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A route template read at build time. The template is compiled with {@link Route}, the parser the
+ * router matches with, so a template the router would reject fails the build and the parameters
+ * handlers are bound to are the ones the router converts.
+ */
+final class RouteTemplate {
+
+  private final String template;
+  private final Map<String, RouteParameter> parameters = new LinkedHashMap<>();
+  private final List<String> unknownTypes = new ArrayList<>();
+
+  /**
+   * Reads a route template.
+   *
+   * @param template the route template
+   * @throws IllegalArgumentException if the template is invalid or declares a parameter twice
+   */
+  RouteTemplate(String template) {
+    this.template = template;
+
+    for (RouteParameter parameter : new Route(template).getParameters()) {
+      if (parameters.putIfAbsent(parameter.name(), parameter) != null) {
+        throw new IllegalArgumentException(
+            "Parameter '" + parameter.name() + "' is declared twice in route '" + template + "'");
+      }
+      if (parameter.type().equals("str")
+          && !parameter.declaration().isEmpty()
+          && !parameter.declaration().equals("str")) {
+        unknownTypes.add(":" + parameter.name() + ":" + parameter.declaration());
+      }
+    }
+  }
+
+  /**
+   * Returns the route template.
+   *
+   * @return the route template
+   */
+  String getTemplate() {
+    return template;
+  }
+
+  /**
+   * Returns the parameters of the template, path parameters first, keyed by name.
+   *
+   * @return an unmodifiable map of parameters
+   */
+  Map<String, RouteParameter> getParameters() {
+    return Collections.unmodifiableMap(parameters);
+  }
+
+  /**
+   * Returns the parameter declarations whose type is unknown, which the router matches as strings.
+   *
+   * @return the declarations with an unknown type
+   */
+  List<String> getUnknownTypes() {
+    return Collections.unmodifiableList(unknownTypes);
+  }
+}
@@ -0,0 +1,463 @@
+package com.webforj.addons.services.simplerouter.processor;
+
+import com.webforj.addons.services.simplerouter.RouteParameter;
+import com.webforj.addons.services.simplerouter.RouteReport;
+import com.webforj.addons.services.simplerouter.RouteTable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates the route registrations of the handlers annotated with {@code @SimpleRoute}. For every
+ * type declaring handlers, a {@code <Type>Routes} class is generated next to it, whose {@code
+ * register(SimpleRouter, Type)} method adds the routes to the shared route table and binds the
+ * handlers in a single registry update, with the route parameters converted by typed accessors
+ * rather than reflection.
+ *
+ * <p>The processor fails the build when a template is invalid, when two handlers declare the same
+ * template, when a handler parameter cannot be bound to the route, or when the routes conflict.
+ * Templates are read and compared with the router's own parser and {@link
+ * RouteTable#analyze(boolean) analyzer}, so every conflict the router would report at startup, such
+ * as overlapping enumerations or regular expressions, is reported at build time.
+ */
+@SupportedAnnotationTypes(SimpleRouteProcessor.ANNOTATION)
+public class SimpleRouteProcessor extends AbstractProcessor {
+
+  static final String ANNOTATION =
+      "com.webforj.addons.services.simplerouter.annotation.SimpleRoute";
+
+  private static final String ROUTER = "com.webforj.addons.services.simplerouter";
+  private static final String EVENT = ROUTER + ".event.SimpleRouteMatchEvent";
+  private static final String MATCH = ROUTER + ".RouteMatch";
+  private static final String QUERY = ROUTER + ".QueryParameters";
+  private static final String LISTENER = "com.webforj.dispatcher.EventListener";
+  private static final String REGISTRATION = "com.webforj.dispatcher.ListenerRegistration";
+
+  private final Map<String, Declaration> templates = new LinkedHashMap<>();
+  private final Set<String> reported = new HashSet<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    TypeElement annotation = processingEnv.getElementUtils().getTypeElement(ANNOTATION);
+    if (annotation == null) {
+      return false;
+    }
+
+    Map<TypeElement, List<String>> handlers = new LinkedHashMap<>();
+    for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+      TypeElement type =
+          element instanceof TypeElement t ? t : (TypeElement) element.getEnclosingElement();
+      List<String> bindings = handlers.computeIfAbsent(type, t -> new ArrayList<>());
+      if (element.getModifiers().contains(Modifier.PRIVATE)
+          || type.getModifiers().contains(Modifier.PRIVATE)) {
+        error(element, "A @SimpleRoute handler cannot be private");
+        continue;
+      }
+
+      for (String template : templatesOf(element)) {
+        RouteTemplate route = read(element, template);
+        if (route == null) {
+          continue;
+        }
+        String listener =
+            element instanceof ExecutableElement method
+                ? listenerOf(method, route)
+                : listenerOfClass((TypeElement) element);
+        if (listener != null) {
+          bindings.add(
+              "    listeners.put("
+                  + processingEnv.getElementUtils().getConstantExpression(template)
+                  + ", "
+                  + listener
+                  + ");\n");
+        }
+      }
+    }
+
+    reportConflicts();
+    handlers.forEach(this::write);
+    return true;
+  }
+
+  /**
+   * Returns the templates declared by the {@code @SimpleRoute} annotation of an element.
+   *
+   * @param element the annotated element
+   * @return the route templates
+   */
+  private static List<String> templatesOf(Element element) {
+    List<String> result = new ArrayList<>();
+    for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+      if (!((TypeElement) mirror.getAnnotationType().asElement())
+          .getQualifiedName()
+          .contentEquals(ANNOTATION)) {
+        continue;
+      }
+      mirror
+          .getElementValues()
+          .forEach(
+              (name, value) -> {
+                if (value.getValue() instanceof List<?> values) {
+                  for (Object item : values) {
+                    result.add((String) ((AnnotationValue) item).getValue());
+                  }
+                } else {
+                  result.add((String) value.getValue());
+                }
+              });
+    }
+    return result;
+  }
+
+  /**
+   * Reads a template and checks it against the templates of the other handlers.
+   *
+   * @param element the handler declaring the template
+   * @param template the route template
+   * @return the template, or null if it was reported as an error
+   */
+  private RouteTemplate read(Element element, String template) {
+    RouteTemplate route;
+    try {
+      route = new RouteTemplate(template);
+    } catch (IllegalArgumentException e) {
+      error(element, "Invalid route '" + template + "': " + e.getMessage());
+      return null;
+    }
+    for (String declaration : route.getUnknownTypes()) {
+      processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.WARNING,
+              "Unknown type in '" + declaration + "' of route '" + template + "', matched as str",
+              element);
+    }
+
+    Declaration previous = templates.putIfAbsent(template, new Declaration(template, element));
+    if (previous != null) {
+      error(element, "Route '" + template + "' is already declared by " + previous.describe());
+      return null;
+    }
+    return route;
+  }
+
+  /**
+   * Analyzes the templates declared so far, as the router would when every handler is registered,
+   * and reports each conflicting template once, on the handler declaring it. Shadowed routes are
+   * reported too: they only match route strings another route matches first.
+   */
+  private void reportConflicts() {
+    RouteReport report = RouteTable.of(templates.keySet().toArray(new String[0])).analyze(false);
+    for (RouteReport.Conflict conflict : report.getConflicts()) {
+      if (!reported.add(conflict.route())) {
+        continue;
+      }
+      Element element = templates.get(conflict.route()).element();
+      if (conflict.other() == null) {
+        error(element, "Route '" + conflict.route() + "' matches no route string");
+        continue;
+      }
+      String relation =
+          conflict.kind() == RouteReport.Kind.AMBIGUOUS
+              ? "' is ambiguous with"
+              : "' is shadowed by";
+      error(
+          element,
+          "Route '"
+              + conflict.route()
+              + relation
+              + " route '"
+              + conflict.other()
+              + "' declared by "
+              + templates.get(conflict.other()).describe()
+              + ", e.g. '"
+              + conflict.example()
+              + "'");
+    }
+  }
+
+  /**
+   * Returns the listener expression invoking a handler method, binding every method parameter.
+   *
+   * @param method the handler method
+   * @param route the route the method is notified for
+   * @return the listener expression, or null if a parameter cannot be bound
+   */
+  private String listenerOf(ExecutableElement method, RouteTemplate route) {
+    StringBuilder arguments = new StringBuilder();
+    boolean bound = true;
+    for (VariableElement parameter : method.getParameters()) {
+      String argument = argumentOf(parameter, route);
+      if (argument == null) {
+        bound = false;
+      } else {
+        arguments.append(arguments.isEmpty() ? "" : ", ").append(argument);
+      }
+    }
+    if (!bound) {
+      return null;
+    }
+
+    String target =
+        method.getModifiers().contains(Modifier.STATIC)
+            ? ((TypeElement) method.getEnclosingElement()).getQualifiedName().toString()
+            : "handler";
+    return "e -> " + target + "." + method.getSimpleName() + "(" + arguments + ")";
+  }
+
+  /**
+   * Returns the expression passing a value to a handler method parameter.
+   *
+   * @param parameter the method parameter
+   * @param route the route the method is notified for
+   * @return the argument expression, or null if the parameter cannot be bound
+   */
+  private String argumentOf(VariableElement parameter, RouteTemplate route) {
+    String type = processingEnv.getTypeUtils().erasure(parameter.asType()).toString();
+    if (type.equals(EVENT)) {
+      return "e";
+    }
+    if (type.equals(MATCH)) {
+      return "e.getMatch()";
+    }
+    if (type.equals(QUERY)) {
+      return "e.getMatch().getQuery()";
+    }
+
+    String name = parameter.getSimpleName().toString();
+    RouteParameter declared = route.getParameters().get(name);
+    if (declared == null) {
+      error(
+          parameter,
+          "Parameter '" + name + "' is not declared by route '" + route.getTemplate() + "'");
+      return null;
+    }
+
+    String getter = getterOf(declared.type(), type);
+    if (getter == null) {
+      error(
+          parameter,
+          "Parameter '"
+              + name
+              + "' of type "
+              + declared.type()
+              + " cannot be bound to "
+              + type
+              + " in route '"
+              + route.getTemplate()
+              + "'");
+      return null;
+    }
+    if (declared.query() && parameter.asType().getKind().isPrimitive()) {
+      error(
+          parameter,
+          "Query parameter '"
+              + name
+              + "' is optional and cannot be bound to the primitive type "
+              + type);
+      return null;
+    }
+    return "e.getMatch()." + getter + "(\"" + name + "\")";
+  }
+
+  /**
+   * Returns the accessor of {@code RouteMatch} converting a route parameter to a Java type.
+   *
+   * @param routeType the type of the route parameter
+   * @param javaType the erased Java type of the handler parameter
+   * @return the accessor name, or null if the Java type does not fit the route parameter
+   */
+  private static String getterOf(String routeType, String javaType) {
+    if (routeType.equals("int")) {
+      return javaType.equals("int") || javaType.equals("java.lang.Integer") ? "getInt" : null;
+    }
+    if (routeType.equals("long")) {
+      return javaType.equals("long") || javaType.equals("java.lang.Long") ? "getLong" : null;
+    }
+    if (routeType.equals("bool")) {
+      return javaType.equals("boolean") || javaType.equals("java.lang.Boolean") ? "getBool" : null;
+    }
+    if (routeType.equals("num")) {
+      return javaType.equals("java.math.BigDecimal") ? "getNum" : null;
+    }
+    if (routeType.equals("uuid")) {
+      return javaType.equals("java.util.UUID") ? "getUuid" : null;
+    }
+    if (routeType.equals("date")) {
+      return javaType.equals("java.time.LocalDate") ? "getDate" : null;
+    }
+    if (routeType.equals("path")
+        && (javaType.equals("com.webforj.addons.services.simplerouter.WildcardPath")
+            || javaType.equals("java.lang.CharSequence"))) {
+      return "getPath";
+    }
+    return javaType.equals("java.lang.String") ? "getString" : null;
+  }
+
+  /**
+   * Returns the listener expression of a handler class, which must be a route match listener.
+   *
+   * @param type the handler class
+   * @return the listener expression, or null if the class is not a route match listener
+   */
+  private String listenerOfClass(TypeElement type) {
+    TypeElement listener = processingEnv.getElementUtils().getTypeElement(LISTENER);
+    TypeElement event = processingEnv.getElementUtils().getTypeElement(EVENT);
+    TypeMirror expected = processingEnv.getTypeUtils().getDeclaredType(listener, event.asType());
+    if (type.getKind() == ElementKind.ANNOTATION_TYPE
+        || !processingEnv.getTypeUtils().isAssignable(type.asType(), expected)) {
+      error(type, "A @SimpleRoute class must implement EventListener<SimpleRouteMatchEvent>");
+      return null;
+    }
+    return "handler";
+  }
+
+  /**
+   * Writes the routes class of a handler type.
+   *
+   * @param type the handler type
+   * @param bindings the statements adding the listeners of the handler
+   */
+  private void write(TypeElement type, List<String> bindings) {
+    if (bindings.isEmpty()) {
+      return;
+    }
+
+    String packageName = packageOf(type).getQualifiedName().toString();
+    String simpleName = type.getQualifiedName().toString();
+    if (!packageName.isEmpty()) {
+      simpleName = simpleName.substring(packageName.length() + 1);
+    }
+    String className = simpleName.replace('.', '_') + "Routes";
+    String handler = type.getQualifiedName().toString();
+
+    StringBuilder source = new StringBuilder();
+    if (!packageName.isEmpty()) {
+      source.append("package ").append(packageName).append(";\n\n");
+    }
+    source
+        .append("/** Registers the routes of {@link ")
+        .append(handler)
+        .append("}. */\n")
+        .append("@javax.annotation.processing.Generated(\"")
+        .append(getClass().getName())
+        .append("\")\n")
+        .append("public final class ")
+        .append(className)
+        .append(" {\n\n")
+        .append("  private ")
+        .append(className)
+        .append("() {}\n\n")
+        .append("  /**\n")
+        .append("   * Registers the routes of a handler with a router.\n")
+        .append("   *\n")
+        .append("   * @param router the router\n")
+        .append("   * @param handler the handler\n")
+        .append("   * @return the registrations of the handler, one per route\n")
+        .append("   */\n")
+        .append("  public static java.util.List<")
+        .append(REGISTRATION)
+        .append('<')
+        .append(EVENT)
+        .append(">> register(\n")
+        .append("      ")
+        .append(ROUTER)
+        .append(".SimpleRouter router, ")
+        .append(handler)
+        .append(" handler) {\n")
+        .append("    java.util.Map<String, ")
+        .append(LISTENER)
+        .append('<')
+        .append(EVENT)
+        .append(">> listeners =\n")
+        .append("        new java.util.LinkedHashMap<>();\n");
+    bindings.forEach(source::append);
+    source
+        .append("    ")
+        .append(ROUTER)
+        .append(".RouteTable.registerShared(listeners.keySet().toArray(new String[0]));\n")
+        .append("    return router.onRouteMatch(listeners);\n")
+        .append("  }\n")
+        .append("}\n");
+
+    String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+    try (Writer writer =
+        processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+      writer.write(source.toString());
+    } catch (IOException e) {
+      error(type, "Cannot write " + qualifiedName + ": " + e.getMessage());
+    }
+  }
+
+  /**
+   * Returns the package of an element.
+   *
+   * @param element the element
+   * @return the package declaring the element
+   */
+  private static PackageElement packageOf(Element element) {
+    Element current = element;
+    while (!(current instanceof PackageElement)) {
+      current = current.getEnclosingElement();
+    }
+    return (PackageElement) current;
+  }
+
+  /**
+   * Reports an error on an element, failing the build.
+   *
+   * @param element the element the error is about
+   * @param message the error message
+   */
+  private void error(Element element, String message) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+
+  /**
+   * A template declared by a handler.
+   *
+   * @param template the route template
+   * @param element the handler declaring it
+   */
+  private record Declaration(String template, Element element) {
+
+    /**
+     * Describes the handler declaring the template.
+     *
+     * @return the handler, as {@code Type} or {@code Type.method}
+     */
+    private String describe() {
+      if (element instanceof TypeElement type) {
+        return type.getQualifiedName().toString();
+      }
+      return ((TypeElement) element.getEnclosingElement()).getQualifiedName()
+          + "."
+          + element.getSimpleName();
+    }
+  }
+}
@@ -0,0 +1,218 @@
+package com.webforj.addons.services.simplerouter.processor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SimpleRouteProcessorTest {
+
+  private static final String IMPORTS =
+      """
+      package app;
+
+      import com.webforj.addons.services.simplerouter.QueryParameters;
+      import com.webforj.addons.services.simplerouter.annotation.SimpleRoute;
+      import com.webforj.addons.services.simplerouter.event.SimpleRouteMatchEvent;
+      import com.webforj.dispatcher.EventListener;
+      import java.util.UUID;
+
+      """;
+
+  @TempDir Path output;
+
+  private DiagnosticCollector<JavaFileObject> diagnostics;
+
+  private boolean compile(Map<String, String> sources) throws IOException {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, null)) {
+      files.setLocation(StandardLocation.CLASS_OUTPUT, List.of(output.toFile()));
+      files.setLocation(StandardLocation.SOURCE_OUTPUT, List.of(output.toFile()));
+      List<JavaFileObject> units =
+          sources.entrySet().stream()
+              .map(e -> (JavaFileObject) new Source(e.getKey(), IMPORTS + e.getValue()))
+              .toList();
+      JavaCompiler.CompilationTask task =
+          compiler.getTask(
+              new StringWriter(),
+              files,
+              diagnostics,
+              List.of("-classpath", System.getProperty("java.class.path")),
+              null,
+              units);
+      task.setProcessors(List.of(new SimpleRouteProcessor()));
+      return task.call();
+    }
+  }
+
+  private String errors() {
+    return diagnostics.getDiagnostics().stream()
+        .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+        .map(d -> d.getMessage(null))
+        .collect(Collectors.joining("\n"));
+  }
+
+  @Test
+  @DisplayName("Generate typed bindings for handler methods and classes")
+  void generateBindings() throws IOException {
+    boolean compiled =
+        compile(
+            Map.of(
+                "OrderView",
+                """
+                public class OrderView {
+                  @SimpleRoute({"orders/:id:int", "orders/:id:int/items"})
+                  void show(int id, QueryParameters query) {}
+
+                  @SimpleRoute("orders/:id:int/items/:item:uuid?page:int")
+                  void item(Integer id, UUID item, Integer page) {}
+
+                  @SimpleRoute("orders/:id:int/files/*path")
+                  void file(int id, CharSequence path) {}
+
+                  @SimpleRoute("orders/:status:enum(open,closed)")
+                  static void list(String status, SimpleRouteMatchEvent e) {}
+
+                  @SimpleRoute("orders/export")
+                  public static class Export implements EventListener<SimpleRouteMatchEvent> {
+                    public void onEvent(SimpleRouteMatchEvent e) {}
+                  }
+                }
+                """));
+
+    assertTrue(compiled, errors());
+    String source = Files.readString(output.resolve("app/OrderViewRoutes.java"));
+    assertTrue(
+        source.contains("handler.show(e.getMatch().getInt(\"id\"), e.getMatch().getQuery())"),
+        source);
+    assertTrue(
+        source.contains(
+            "handler.item(e.getMatch().getInt(\"id\"), e.getMatch().getUuid(\"item\"),"
+                + " e.getMatch().getInt(\"page\"))"),
+        source);
+    assertTrue(
+        source.contains(
+            "handler.file(e.getMatch().getInt(\"id\"), e.getMatch().getPath(\"path\"))"),
+        source);
+    assertTrue(source.contains("app.OrderView.list(e.getMatch().getString(\"status\"), e)"));
+    assertTrue(Files.exists(output.resolve("app/OrderView_ExportRoutes.java")));
+  }
+
+  @Test
+  @DisplayName("Report conflicting and ambiguous routes")
+  void reportConflicts() throws IOException {
+    assertFalse(
+        compile(
+            Map.of(
+                "A", "class A { @SimpleRoute(\"users/:id:int\") void a() {} }",
+                "B", "class B { @SimpleRoute(\"users/:id:int\") void b() {} }")));
+    assertTrue(errors().contains("is already declared by"), errors());
+
+    assertFalse(
+        compile(
+            Map.of(
+                "C",
+                """
+                class C {
+                  @SimpleRoute("Users/:id:int") void a() {}
+                  @SimpleRoute("users/:key:int?page:int") void b() {}
+                }
+                """)));
+    assertTrue(
+        errors().contains("Route 'users/:key:int?page:int' is shadowed by route 'Users/:id:int'"),
+        errors());
+
+    assertFalse(
+        compile(
+            Map.of(
+                "F",
+                """
+                class F {
+                  @SimpleRoute("orders/:status:enum(open,closed)") void a() {}
+                  @SimpleRoute("orders/:state:enum(closed,archived)") void b() {}
+                  @SimpleRoute("codes/:a:regex([a-z]+)") void c() {}
+                  @SimpleRoute("codes/:b:regex(a.*)") void d() {}
+                  @SimpleRoute("codes/:c:int") void e() {}
+                }
+                """)));
+    assertTrue(
+        errors()
+            .contains(
+                "Route 'orders/:state:enum(closed,archived)' is ambiguous with route"
+                    + " 'orders/:status:enum(open,closed)' declared by app.F.a, e.g."
+                    + " 'orders/closed'"),
+        errors());
+    assertTrue(errors().contains("Route 'codes/:b:regex(a.*)' is ambiguous with"), errors());
+    assertFalse(errors().contains("codes/:c:int"), errors());
+  }
+
+  @Test
+  @DisplayName("Report parameters that cannot be bound")
+  void reportUnboundParameters() throws IOException {
+    assertFalse(
+        compile(
+            Map.of(
+                "D",
+                """
+                class D {
+                  @SimpleRoute("a/:id:int") void a(int name) {}
+                  @SimpleRoute("b/:id:int") void b(String id) {}
+                  @SimpleRoute("c?page:int") void c(int page) {}
+                }
+                """)));
+    assertTrue(errors().contains("Parameter 'name' is not declared"), errors());
+    assertTrue(errors().contains("cannot be bound to java.lang.String"), errors());
+    assertTrue(errors().contains("Query parameter 'page' is optional"), errors());
+  }
+
+  @Test
+  @DisplayName("Report invalid templates and handlers")
+  void reportInvalidHandlers() throws IOException {
+    assertFalse(
+        compile(
+            Map.of(
+                "E",
+                """
+                @SimpleRoute("e")
+                class E {
+                  @SimpleRoute("e/:code:regex([A-Z)") void a() {}
+                  @SimpleRoute("e/:id/:id") void b() {}
+                }
+                """)));
+    assertTrue(errors().contains("must implement EventListener"), errors());
+    assertTrue(errors().contains("Invalid route 'e/:code:regex([A-Z)'"), errors());
+    assertTrue(errors().contains("is declared twice"), errors());
+  }
+
+  /** A source file held in memory. */
+  private static final class Source extends SimpleJavaFileObject {
+    private final String code;
+
+    private Source(String className, String code) {
+      super(Path.of("app", className + ".java").toUri(), Kind.SOURCE);
+      this.code = code;
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return code;
+    }
+  }
+}
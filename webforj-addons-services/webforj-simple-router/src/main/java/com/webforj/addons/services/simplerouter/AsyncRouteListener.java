@@ -0,0 +1,64 @@
+package com.webforj.addons.services.simplerouter;
+
+import com.webforj.PendingResult;
+import com.webforj.addons.services.simplerouter.event.SimpleRouteMatchEvent;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A route listener performing asynchronous work, for instance loading the data of a view. The
+ * returned stage is tracked with the navigation that notified the listener and is cancelled when a
+ * newer navigation supersedes it, so stages depending on it, such as building the view, never run
+ * for a stale navigation. Listeners are not notified at all once their navigation is superseded.
+ *
+ * <p>Components must only be touched on the UI thread. {@link
+ * SimpleRouter#supplyAsync(java.util.function.Supplier)} runs the task on a virtual thread but
+ * completes its future back on the UI thread, so the dependent stages below may update the view;
+ * the task itself only loads data.
+ *
+ * <pre>{@code
+ * router.onRouteMatchAsync(
+ *     e -> router.supplyAsync(() -> orders.load(e.getMatch().getInt("id")))
+ *         .thenAccept(order -> showOrder(order)),
+ *     "orders/:id:int");
+ * }</pre>
+ *
+ * @see SimpleRouter#onRouteMatchAsync(AsyncRouteListener, String...)
+ */
+@FunctionalInterface
+public interface AsyncRouteListener {
+
+  /**
+   * Invoked when a route matches.
+   *
+   * @param event the route match event
+   * @return the stage completing when the work is done, or null if there is nothing to wait for
+   */
+  CompletionStage<?> onRouteMatch(SimpleRouteMatchEvent event);
+
+  /**
+   * Adapts a pending client result, such as the result of {@code Page.executeJsAsync}, to a stage
+   * that can be returned by a listener. The future completes on the thread completing the pending
+   * result, the UI thread for client results.
+   *
+   * @param <T> the type of the result
+   * @param result the pending result
+   * @return a future completed with the result, or exceptionally if the pending result fails
+   */
+  static <T> CompletableFuture<T> toFuture(PendingResult<T> result) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    result.whenComplete(
+        (value, error) -> {
+          if (error == null) {
+            future.complete(value);
+          } else {
+            future.completeExceptionally(
+                error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause()
+                    : error);
+          }
+        });
+    return future;
+  }
+}
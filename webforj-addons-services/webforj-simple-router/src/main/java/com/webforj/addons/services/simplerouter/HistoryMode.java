@@ -0,0 +1,29 @@
+package com.webforj.addons.services.simplerouter;
+
+/**
+ * Defines how {@link SimpleRouter} records a navigation in the browser history.
+ *
+ * @see SimpleRouter#setHistoryMode(HistoryMode)
+ */
+public enum HistoryMode {
+  /** Replaces the current history entry, so back leaves the application view. */
+  REPLACE("replaceState"),
+
+  /** Adds a history entry, so back and forward move between navigations. */
+  PUSH("pushState");
+
+  private final String method;
+
+  HistoryMode(String method) {
+    this.method = method;
+  }
+
+  /**
+   * Returns the name of the {@code window.history} method recording the navigation.
+   *
+   * @return the history method name
+   */
+  String getMethod() {
+    return method;
+  }
+}
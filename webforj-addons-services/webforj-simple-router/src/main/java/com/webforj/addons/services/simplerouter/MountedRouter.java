@@ -0,0 +1,168 @@
+package com.webforj.addons.services.simplerouter;
+
+import com.webforj.addons.services.simplerouter.event.SimpleRouteMatchEvent;
+import com.webforj.dispatcher.EventListener;
+import com.webforj.dispatcher.ListenerRegistration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A view of a {@link SimpleRouter} mounted under a prefix, through which a feature module
+ * registers, intercepts and navigates to its routes without knowing where the application mounts
+ * it. Route strings are relative to the prefix: under {@code admin}, {@code users/:id:int} stands
+ * for {@code admin/users/:id:int}.
+ *
+ * <pre>{@code
+ * MountedRouter admin = SimpleRouter.getInstance().mount("admin/*");
+ * admin.onRouteMatch(e -> showUser(e.getMatch().getInt("id")), "users/:id:int");
+ * admin.navigate("users/7");
+ * }</pre>
+ *
+ * <p>The routes are registered with the parent router under their full route string and matched by
+ * its route tree, whose branch for the prefix is shared by every mounted route.
+ */
+public final class MountedRouter {
+
+  private final SimpleRouter router;
+  private final String prefix;
+
+  /**
+   * Constructs a MountedRouter.
+   *
+   * @param router the router the routes are registered with
+   * @param prefix the normalized mount prefix
+   */
+  MountedRouter(SimpleRouter router, String prefix) {
+    this.router = router;
+    this.prefix = prefix;
+  }
+
+  /**
+   * Returns the router the routes are registered with.
+   *
+   * @return the parent router
+   */
+  public SimpleRouter getRouter() {
+    return router;
+  }
+
+  /**
+   * Returns the prefix the routes are mounted under, without leading or trailing slashes.
+   *
+   * @return the mount prefix, empty for the root
+   */
+  public String getPrefix() {
+    return prefix;
+  }
+
+  /**
+   * Returns the full route string of a route string relative to the prefix.
+   *
+   * @param routeString the relative route string
+   * @return the route string under the prefix
+   */
+  public String resolve(String routeString) {
+    return RouteTable.join(prefix, routeString);
+  }
+
+  /**
+   * Mounts a view of the router under a prefix relative to this one.
+   *
+   * @param childPrefix the prefix, relative to this one
+   * @return the mounted view
+   * @throws IllegalArgumentException if the prefix holds a query or a wildcard other than a
+   *     trailing {@code *}
+   */
+  public MountedRouter mount(String childPrefix) {
+    return new MountedRouter(router, resolve(RouteTable.mountPrefix(childPrefix)));
+  }
+
+  /**
+   * Registers an event listener for route strings relative to the prefix.
+   *
+   * @param listener the event listener to be notified on route match
+   * @param routeStrings the relative route strings to match against
+   * @return the registrations of the listener, one per route string, in the given order
+   * @see SimpleRouter#onRouteMatch(EventListener, String...)
+   */
+  public List<ListenerRegistration<SimpleRouteMatchEvent>> onRouteMatch(
+      EventListener<SimpleRouteMatchEvent> listener, String... routeStrings) {
+    return router.onRouteMatch(listener, resolveAll(routeStrings));
+  }
+
+  /**
+   * Registers a listener per route string relative to the prefix, in a single registry update.
+   *
+   * @param listeners the event listeners keyed by the relative route string they are notified for
+   * @return the registrations of the listeners, in the iteration order of the map
+   * @see SimpleRouter#onRouteMatch(Map)
+   */
+  public List<ListenerRegistration<SimpleRouteMatchEvent>> onRouteMatch(
+      Map<String, ? extends EventListener<SimpleRouteMatchEvent>> listeners) {
+    Map<String, EventListener<SimpleRouteMatchEvent>> resolved = new LinkedHashMap<>();
+    listeners.forEach((routeString, listener) -> resolved.put(resolve(routeString), listener));
+    return router.onRouteMatch(resolved);
+  }
+
+  /**
+   * Registers an asynchronous listener for route strings relative to the prefix.
+   *
+   * @param listener the asynchronous listener to be notified on route match
+   * @param routeStrings the relative route strings to match against
+   * @return the registrations of the listener, one per route string, in the given order
+   * @see SimpleRouter#onRouteMatchAsync(AsyncRouteListener, String...)
+   */
+  public List<ListenerRegistration<SimpleRouteMatchEvent>> onRouteMatchAsync(
+      AsyncRouteListener listener, String... routeStrings) {
+    return router.onRouteMatchAsync(listener, resolveAll(routeStrings));
+  }
+
+  /**
+   * Adds an interceptor running before the listeners of every route under the prefix.
+   *
+   * @param interceptor the interceptor to add
+   * @see SimpleRouter#addInterceptor(String, RouteInterceptor)
+   */
+  public void addInterceptor(RouteInterceptor interceptor) {
+    router.addInterceptor(prefix, interceptor);
+  }
+
+  /**
+   * Navigates to a route string relative to the prefix.
+   *
+   * @param routeString the relative route string to navigate to
+   * @see SimpleRouter#navigate(String)
+   */
+  public void navigate(String routeString) {
+    router.navigate(resolve(routeString));
+  }
+
+  /**
+   * Navigates to a route string relative to the prefix, recording the navigation in the browser
+   * history as requested.
+   *
+   * @param routeString the relative route string to navigate to
+   * @param mode how the navigation is recorded in the browser history
+   * @see SimpleRouter#navigate(String, HistoryMode)
+   */
+  public void navigate(String routeString, HistoryMode mode) {
+    router.navigate(resolve(routeString), mode);
+  }
+
+  /**
+   * Resolves route strings relative to the prefix.
+   *
+   * @param routeStrings the relative route strings
+   * @return the route strings under the prefix
+   */
+  private String[] resolveAll(String... routeStrings) {
+    return Arrays.stream(routeStrings).map(this::resolve).toArray(String[]::new);
+  }
+
+  @Override
+  public String toString() {
+    return "MountedRouter{" + "prefix='" + prefix + '\'' + '}';
+  }
+}
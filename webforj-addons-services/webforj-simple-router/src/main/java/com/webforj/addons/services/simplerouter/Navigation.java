@@ -0,0 +1,77 @@
+package com.webforj.addons.services.simplerouter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The Navigation class represents one navigation of a {@link SimpleRouter}, from the moment a route
+ * string matched until a newer navigation supersedes it. Asynchronous work started for the
+ * navigation is tracked, so that it is cancelled as soon as its result can no longer be shown.
+ */
+public final class Navigation {
+
+  private final String routeString;
+  private final List<CompletableFuture<?>> pending = new ArrayList<>();
+  private volatile boolean superseded;
+
+  /**
+   * Constructs a Navigation.
+   *
+   * @param routeString the route string navigated to
+   */
+  Navigation(String routeString) {
+    this.routeString = routeString;
+  }
+
+  /**
+   * Returns the route string navigated to.
+   *
+   * @return the route string
+   */
+  public String getRouteString() {
+    return routeString;
+  }
+
+  /**
+   * Checks whether a newer navigation replaced this one. Results of work started for a superseded
+   * navigation should be discarded.
+   *
+   * @return true if the navigation was superseded, false if it is still current
+   */
+  public boolean isSuperseded() {
+    return superseded;
+  }
+
+  /**
+   * Tracks work started for this navigation. Work tracked after the navigation was superseded is
+   * cancelled right away.
+   *
+   * @param work the work to cancel when the navigation is superseded
+   */
+  synchronized void track(CompletableFuture<?> work) {
+    if (superseded) {
+      work.cancel(true);
+    } else if (!work.isDone()) {
+      pending.add(work);
+    }
+  }
+
+  /** Marks the navigation as superseded and cancels the work still pending. */
+  synchronized void supersede() {
+    superseded = true;
+    pending.forEach(work -> work.cancel(true));
+    pending.clear();
+  }
+
+  @Override
+  public String toString() {
+    return "Navigation{"
+        + "routeString='"
+        + routeString
+        + '\''
+        + ", superseded="
+        + superseded
+        + '}';
+  }
+}
@@ -0,0 +1,105 @@
+package com.webforj.addons.services.simplerouter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A size-bounded, least recently used cache mapping route strings to the matches they resolved to.
+ * The cache holds results of a given route table only; the router clears it whenever the table
+ * changes.
+ */
+final class NavigationCache {
+
+  private final int maxSize;
+  private final Map<String, List<RouteMatch>> entries;
+  private long hits;
+  private long misses;
+
+  /**
+   * Constructs a NavigationCache.
+   *
+   * @param maxSize the maximum number of route strings kept
+   */
+  NavigationCache(int maxSize) {
+    this.maxSize = maxSize;
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, List<RouteMatch>> eldest) {
+            return size() > NavigationCache.this.maxSize;
+          }
+        };
+  }
+
+  /**
+   * Normalizes a route string so that equivalent spellings share an entry. Leading and trailing
+   * slashes of the path do not take part in matching and are removed; the query string is kept as
+   * it is.
+   *
+   * @param routeString the route string
+   * @return the normalized route string
+   */
+  static String normalize(String routeString) {
+    int query = routeString.indexOf('?');
+    int start = 0;
+    int end = query < 0 ? routeString.length() : query;
+    while (start < end && routeString.charAt(start) == '/') {
+      start++;
+    }
+    while (end > start && routeString.charAt(end - 1) == '/') {
+      end--;
+    }
+    return query < 0
+        ? routeString.substring(start, end)
+        : routeString.substring(start, end) + routeString.substring(query);
+  }
+
+  /**
+   * Returns the cached matches of a normalized route string and records a hit or a miss.
+   *
+   * @param key the normalized route string
+   * @return the cached matches, or null if the route string is not cached
+   */
+  synchronized List<RouteMatch> get(String key) {
+    List<RouteMatch> matches = entries.get(key);
+    if (matches == null) {
+      misses++;
+    } else {
+      hits++;
+    }
+    return matches;
+  }
+
+  /**
+   * Caches the matches of a normalized route string, evicting the least recently used entry when
+   * the cache is full.
+   *
+   * @param key the normalized route string
+   * @param matches the matches to cache
+   */
+  synchronized void put(String key, List<RouteMatch> matches) {
+    entries.put(key, List.copyOf(matches));
+  }
+
+  /** Removes every entry. Hit and miss counts are kept. */
+  synchronized void clear() {
+    entries.clear();
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+
+  int getMaxSize() {
+    return maxSize;
+  }
+
+  synchronized long getHits() {
+    return hits;
+  }
+
+  synchronized long getMisses() {
+    return misses;
+  }
+}
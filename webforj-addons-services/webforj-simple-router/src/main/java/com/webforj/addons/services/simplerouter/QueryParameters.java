@@ -0,0 +1,242 @@
+package com.webforj.addons.services.simplerouter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The QueryParameters class is the query string of a route string, seen as a multimap from
+ * parameter names to values. The query string is split and percent-decoded on first access only,
+ * and at most once, so routes that never read it do not pay for it. Parameters keep the order in
+ * which they first appear; repeated parameters keep every value.
+ *
+ * <p>Typed accessors convert the first value of a parameter the same way typed route segments are
+ * converted, returning null instead of throwing when the value does not satisfy the type.
+ */
+public final class QueryParameters {
+
+  private static final QueryParameters EMPTY = new QueryParameters("", 0, 0);
+
+  private final String source;
+  private final int start;
+  private final int end;
+  private volatile Map<String, List<String>> values;
+
+  /**
+   * Constructs QueryParameters over a range of a route string.
+   *
+   * @param source the route string
+   * @param start the offset of the first character of the query string
+   * @param end the offset following the last character of the query string
+   */
+  QueryParameters(String source, int start, int end) {
+    this.source = source;
+    this.start = start;
+    this.end = end;
+  }
+
+  /**
+   * Returns query parameters holding no parameter.
+   *
+   * @return the empty query parameters
+   */
+  public static QueryParameters empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Creates the query parameters of a query string, with or without its leading {@code ?}.
+   *
+   * @param query the query string
+   * @return the query parameters
+   */
+  public static QueryParameters of(String query) {
+    int offset = query.startsWith("?") ? 1 : 0;
+    return offset == query.length() ? EMPTY : new QueryParameters(query, offset, query.length());
+  }
+
+  /**
+   * Returns the decoded parameters, parsing the query string on first access.
+   *
+   * @return the parameters keyed by name
+   */
+  private Map<String, List<String>> values() {
+    Map<String, List<String>> result = values;
+    if (result == null) {
+      result = parse();
+      values = result;
+    }
+    return result;
+  }
+
+  /**
+   * Splits the query string on {@code &} and {@code =} and decodes every name and value. A
+   * parameter without {@code =} has an empty value.
+   *
+   * @return the parameters keyed by name
+   */
+  private Map<String, List<String>> parse() {
+    if (start == end) {
+      return Map.of();
+    }
+
+    Map<String, List<String>> result = new LinkedHashMap<>();
+    int pairStart = start;
+    for (int i = start; i <= end; i++) {
+      if (i == end || source.charAt(i) == '&') {
+        if (i > pairStart) {
+          int separator = source.indexOf('=', pairStart);
+          if (separator < 0 || separator > i) {
+            separator = i;
+          }
+          String name = UrlCodec.decode(source, pairStart, separator, true);
+          String value = separator == i ? "" : UrlCodec.decode(source, separator + 1, i, true);
+          result.computeIfAbsent(name, n -> new ArrayList<>(1)).add(value);
+        }
+        pairStart = i + 1;
+      }
+    }
+    result.replaceAll((name, list) -> Collections.unmodifiableList(list));
+    return Collections.unmodifiableMap(result);
+  }
+
+  /**
+   * Checks whether the query string holds no parameter.
+   *
+   * @return true if there is no parameter, false otherwise
+   */
+  public boolean isEmpty() {
+    return start == end || values().isEmpty();
+  }
+
+  /**
+   * Checks whether the query string holds a parameter.
+   *
+   * @param name the name of the parameter
+   * @return true if the parameter is present, even without a value, false otherwise
+   */
+  public boolean contains(String name) {
+    return values().containsKey(name);
+  }
+
+  /**
+   * Returns the names of the parameters, in order of first appearance.
+   *
+   * @return an unmodifiable set of parameter names
+   */
+  public Set<String> getNames() {
+    return values().keySet();
+  }
+
+  /**
+   * Returns every parameter with all of its values.
+   *
+   * @return an unmodifiable map of parameter values keyed by name
+   */
+  public Map<String, List<String>> asMap() {
+    return values();
+  }
+
+  /**
+   * Retrieves every value of a parameter.
+   *
+   * @param name the name of the parameter
+   * @return an unmodifiable list of values, empty if the parameter is not present
+   */
+  public List<String> getAll(String name) {
+    return values().getOrDefault(name, List.of());
+  }
+
+  /**
+   * Retrieves the first value of a parameter.
+   *
+   * @param name the name of the parameter
+   * @return the decoded value of the parameter, or null if not found
+   */
+  public String getString(String name) {
+    List<String> list = values().get(name);
+    return list == null ? null : list.get(0);
+  }
+
+  /**
+   * Retrieves the integer value of a parameter.
+   *
+   * @param name the name of the parameter
+   * @return the integer value of the parameter, or null if not found or not an integer
+   */
+  public Integer getInt(String name) {
+    String value = getString(name);
+    return value == null ? null : RouteSegment.parseInt(value);
+  }
+
+  /**
+   * Retrieves the long value of a parameter.
+   *
+   * @param name the name of the parameter
+   * @return the long value of the parameter, or null if not found or not a long
+   */
+  public Long getLong(String name) {
+    String value = getString(name);
+    return value == null ? null : RouteSegment.parseLong(value);
+  }
+
+  /**
+   * Retrieves the numeric value of a parameter as a BigDecimal.
+   *
+   * @param name the name of the parameter
+   * @return the numeric value of the parameter, or null if not found or not a number
+   */
+  public BigDecimal getNum(String name) {
+    String value = getString(name);
+    return value == null ? null : RouteSegment.parseNum(value);
+  }
+
+  /**
+   * Retrieves the boolean value of a parameter. A parameter present without a value is true.
+   *
+   * @param name the name of the parameter
+   * @return the boolean value of the parameter, or null if not found
+   */
+  public Boolean getBool(String name) {
+    String value = getString(name);
+    return value == null ? null : RouteSegment.parseBool(value);
+  }
+
+  /**
+   * Retrieves the UUID value of a parameter.
+   *
+   * @param name the name of the parameter
+   * @return the UUID value of the parameter, or null if not found or not a UUID
+   */
+  public UUID getUuid(String name) {
+    String value = getString(name);
+    return value == null ? null : RouteSegment.parseUuid(value);
+  }
+
+  /**
+   * Retrieves the date value of a parameter.
+   *
+   * @param name the name of the parameter
+   * @return the date value of the parameter, or null if not found or not a date
+   */
+  public LocalDate getDate(String name) {
+    String value = getString(name);
+    return value == null ? null : RouteSegment.parseDate(value);
+  }
+
+  /**
+   * Returns the query string, undecoded and without its leading {@code ?}.
+   *
+   * @return the raw query string
+   */
+  @Override
+  public String toString() {
+    return source.substring(start, end);
+  }
+}
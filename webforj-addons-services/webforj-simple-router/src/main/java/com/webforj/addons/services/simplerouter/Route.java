@@ -1,79 +1,51 @@
 package com.webforj.addons.services.simplerouter;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.regex.Matcher;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 /**
  * The Route class represents a route pattern and provides methods to match and extract parameters
  * from a route string. It supports route segments with different data types such as string,
- * integer, number, and boolean.
+ * integer, long, number, boolean, UUID and date, as well as segments restricted to a set of values
+ * ({@code :status:enum(open,closed)}) or to a regular expression ({@code :code:regex([A-Z]{3})}).
+ *
+ * <p>A template may also declare named query parameters after a {@code ?}, separated by {@code &}
+ * and typed the same way as path segments, for instance {@code search/:term?page:int&sort}. Query
+ * parameters are matched by name, in any order, and are optional: a route matches whether they are
+ * present or not, but a present value must satisfy the declared type. Undeclared query parameters
+ * are ignored and remain available through {@link RouteMatch#getQuery()}.
+ *
+ * <p>Only {@code /} separates path segments. A {@code &} in the path is an ordinary character, and
+ * the {@code ?} ends the path. Earlier versions also split the path on {@code ?} and {@code &}, so
+ * a template such as {@code tags&sort} used to match {@code tags/sort}; it now only matches the
+ * single segment {@code tags&sort}. Likewise, what follows a {@code ?} is no longer matched by
+ * position but as query parameters.
+ *
+ * <p>A {@code *} segment matches any number of segments, and discards them. A named wildcard, such
+ * as {@code *path} in {@code files/*path}, captures them as a {@link WildcardPath}, read with
+ * {@link RouteMatch#getPath(String)}: a view over the matched route string, decoded only when read.
  */
 public class Route {
 
-  /** Represents a segment of the route. */
-  private static class RouteSegment {
-    private final int position;
-
-    /** Enum representing the type of the segment. */
-    public enum SegmentType {
-      STR,
-      INT,
-      NUM,
-      BOOL
-    }
-
-    private SegmentType type;
-    private final String name;
-
-    /**
-     * Constructs a RouteSegment with the specified position and segment string.
-     *
-     * @param position the position of the segment in the route
-     * @param segStr the segment string
-     */
-    public RouteSegment(int position, String segStr) {
-      this.position = position;
-
-      String[] tmp = segStr.split(":");
-      this.name = tmp[1];
-      if (tmp.length == 3) {
-        switch (tmp[2]) {
-          case "int":
-            this.type = SegmentType.INT;
-            break;
-          case "num":
-            this.type = SegmentType.NUM;
-            break;
-          case "bool":
-            this.type = SegmentType.BOOL;
-            break;
-          default:
-            this.type = SegmentType.STR;
-        }
-      }
-    }
-
-    @Override
-    public String toString() {
-      return "RouteSegment{"
-          + "position="
-          + position
-          + ", type='"
-          + type
-          + '\''
-          + ", name='"
-          + name
-          + '\''
-          + '}';
-    }
-  }
-
   private final String route;
-  private final Pattern routePattern;
+  private final RoutePath template;
+  private volatile Pattern routePattern;
   private final HashMap<String, RouteSegment> routeSegments = new HashMap<>();
+  private final RouteSegment[] segmentsByPosition;
+  private final Map<String, RouteSegment> querySegments = new LinkedHashMap<>();
+  private final Map<String, Integer> wildcards = new LinkedHashMap<>();
+  private final List<RouteParameter> parameters = new ArrayList<>();
+  private volatile RoutePath lastPath;
+  private volatile RouteWriter writer;
 
   /**
    * Constructs a Route with the specified route string.
@@ -82,110 +54,245 @@ public class Route {
    */
   public Route(String route) {
     this.route = route;
+    this.template = new RoutePath(route);
+    this.segmentsByPosition = new RouteSegment[template.size()];
 
-    final StringBuilder routePatterns = new StringBuilder("^");
-    String[] a =
-        Arrays.stream(route.split("/"))
-            .map(s -> s.split("\\?"))
-            .flatMap(Arrays::stream)
-            .map(s -> s.split("&"))
-            .flatMap(Arrays::stream)
-            .toArray(String[]::new);
-    for (int i = 0; i < a.length; i++) {
-      if (i > 0) {
-        routePatterns.append("/");
+    for (int i = 0; i < template.size(); i++) {
+      if (template.segmentStartsWith(i, ':')) {
+        RouteSegment seg = new RouteSegment(i, template.rawSegment(i));
+        routeSegments.put(seg.getName(), seg);
+        segmentsByPosition[i] = seg;
+        parameters.add(parameterOf(seg));
+      } else if (template.segmentStartsWith(i, '*') && !template.segmentEquals(i, "*")) {
+        String name = template.rawSegment(i).substring(1);
+        wildcards.put(name, i);
+        parameters.add(new RouteParameter(name, "path", "", false));
       }
-      if (a[i].equals("*")) {
-        routePatterns.append(".*");
-        continue;
-      }
-      if (a[i].startsWith(":")) {
-        routePatterns.append(".*");
-        RouteSegment seg = new RouteSegment(i, a[i]);
-        routeSegments.put(seg.name, seg);
-      } else {
-        routePatterns.append(a[i]);
+    }
+
+    for (String declaration : template.queryString().split("&")) {
+      if (!declaration.isEmpty()) {
+        String segStr = declaration.startsWith(":") ? declaration : ":" + declaration;
+        RouteSegment seg = new RouteSegment(-1, segStr);
+        querySegments.put(seg.getName(), seg);
+        parameters.add(parameterOf(seg));
       }
     }
-    this.routePattern = Pattern.compile(routePatterns.toString(), Pattern.CASE_INSENSITIVE);
+  }
+
+  /**
+   * Describes a parameter segment.
+   *
+   * @param segment the parameter segment
+   * @return the parameter
+   */
+  private static RouteParameter parameterOf(RouteSegment segment) {
+    return new RouteParameter(
+        segment.getName(),
+        segment.getType().name().toLowerCase(Locale.ROOT),
+        segment.getDeclaration(),
+        segment.getPosition() < 0);
+  }
+
+  /**
+   * Returns the route string split into segments. The last split path is kept, so repeated lookups
+   * against the same route string, for instance one per parameter, reuse a single scan.
+   *
+   * @param routeString the route string to split
+   * @return the split route string
+   */
+  private RoutePath pathOf(String routeString) {
+    RoutePath path = lastPath;
+    if (path == null || !path.source().equals(routeString)) {
+      path = new RoutePath(routeString);
+      lastPath = path;
+    }
+    return path;
   }
 
   /**
    * Checks if the given route string matches the route pattern.
    *
+   * <p>Segments are percent-decoded before they are compared or converted. Literal segments are
+   * compared case-insensitively, parameter segments consume exactly one segment whose value must
+   * satisfy the declared type, and {@code *} consumes any number of segments, including none.
+   * Declared query parameters must satisfy their type when present.
+   *
    * @param routeString the route string to check
    * @return true if the route string matches the pattern, false otherwise
    */
   public boolean matches(String routeString) {
-    Matcher matcher = this.routePattern.matcher(routeString + "/");
+    return match(routeString) != null;
+  }
 
-    if (!matcher.matches()) {
+  /**
+   * Matches the given route string against the route pattern and converts every parameter to its
+   * declared type.
+   *
+   * @param routeString the route string to match
+   * @return the match holding the converted parameters, or null if the route string does not match
+   * @see #matches(String)
+   */
+  public RouteMatch match(String routeString) {
+    RoutePath path = pathOf(routeString);
+    int[] positions = new int[template.size()];
+    Object[] values = new Object[template.size()];
+    return matches(path, 0, 0, positions, values) ? createMatch(path, positions, values) : null;
+  }
+
+  /**
+   * Matches the template segments starting at {@code templateIndex} against the path segments
+   * starting at {@code pathIndex}, recording the path position and converted value of every
+   * parameter segment along the way.
+   *
+   * @param path the split route string
+   * @param templateIndex the current template position
+   * @param pathIndex the current path position
+   * @param positions the path position consumed by each template position
+   * @param values the converted value of each parameter, by template position
+   * @return true if the remaining path matches the remaining template, false otherwise
+   */
+  private boolean matches(
+      RoutePath path, int templateIndex, int pathIndex, int[] positions, Object[] values) {
+    if (templateIndex == template.size()) {
+      return pathIndex == path.size();
+    }
+
+    if (isWildcard(templateIndex)) {
+      for (int i = pathIndex; i <= path.size(); i++) {
+        positions[templateIndex] = pathIndex;
+        values[templateIndex] = i;
+        if (matches(path, templateIndex + 1, i, positions, values)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    if (pathIndex == path.size()) {
       return false;
     }
 
-    if (this.routeSegments.isEmpty()) {
-      return true;
+    RouteSegment segment = segmentsByPosition[templateIndex];
+    if (segment != null) {
+      Object value = segment.parse(path.segment(pathIndex));
+      if (value == null) {
+        return false;
+      }
+      positions[templateIndex] = pathIndex;
+      values[templateIndex] = value;
+    } else if (!template.segmentLowerCase(templateIndex).equals(path.segmentLowerCase(pathIndex))) {
+      return false;
     }
 
-    return this.areRouteSegmentsValid(routeString);
+    return matches(path, templateIndex + 1, pathIndex + 1, positions, values);
   }
 
   /**
-   * Validates route segments against the route string.
+   * Creates the match result once the path of the route string has been matched, converting the
+   * declared query parameters present in the route string.
    *
-   * @param routeString the route string to check
-   * @return true if all route segments are valid, false otherwise
+   * @param path the split route string
+   * @param positions the path position consumed by each template position, the first position
+   *     consumed for a wildcard
+   * @param values the converted value of each parameter, by template position, and the position
+   *     following the last one consumed for a wildcard
+   * @return the match result, or null if a declared query parameter does not satisfy its type
    */
-  private boolean areRouteSegmentsValid(String routeString) {
+  RouteMatch createMatch(RoutePath path, int[] positions, Object[] values) {
+    Map<String, String> rawValues = new HashMap<>();
+    Map<String, Object> typedValues = new HashMap<>();
     for (RouteSegment rs : routeSegments.values()) {
-      if (!isSegmentValid(routeString, rs)) {
-        return false;
+      rawValues.put(rs.getName(), path.segmentString(positions[rs.getPosition()]));
+      typedValues.put(rs.getName(), values[rs.getPosition()]);
+    }
+    wildcards.forEach(
+        (name, position) -> typedValues.put(name, capture(path, positions, values, position)));
+
+    if (!querySegments.isEmpty()) {
+      QueryParameters query = path.query();
+      for (RouteSegment rs : querySegments.values()) {
+        String raw = query.getString(rs.getName());
+        if (raw != null) {
+          Object value = rs.parse(raw);
+          if (value == null) {
+            return null;
+          }
+          rawValues.put(rs.getName(), raw);
+          typedValues.put(rs.getName(), value);
+        }
       }
     }
-    return true;
+    return new RouteMatch(this, path.source(), path.query(), rawValues, typedValues);
   }
 
   /**
-   * Checks if a single route segment is valid.
+   * Creates the view over the segments consumed by a wildcard.
    *
-   * @param routeString the route string to check
-   * @param rs the route segment to validate
-   * @return true if the route segment is valid, false otherwise
+   * @param path the split route string
+   * @param positions the first path position consumed by each wildcard
+   * @param values the position following the last one consumed by each wildcard
+   * @param position the template position of the wildcard
+   * @return the captured path
+   */
+  private static WildcardPath capture(
+      RoutePath path, int[] positions, Object[] values, int position) {
+    int first = positions[position];
+    int last = (Integer) values[position] - 1;
+    return last < first
+        ? new WildcardPath(path.source(), 0, 0)
+        : new WildcardPath(path.source(), path.start(first), path.end(last));
+  }
+
+  /**
+   * Checks whether the given template position holds a wildcard, named or not.
+   *
+   * @param position the template position
+   * @return true if the segment starts with {@code *}, false otherwise
+   */
+  boolean isWildcard(int position) {
+    return template.segmentStartsWith(position, '*');
+  }
+
+  /**
+   * Looks up the parameter segment declared at the given template position.
+   *
+   * @param position the template position
+   * @return the route segment at that position, or null if the position holds no parameter
+   */
+  RouteSegment segmentAt(int position) {
+    return segmentsByPosition[position];
+  }
+
+  /**
+   * Looks up a path segment or, failing that, a query parameter declared with the given name.
+   *
+   * @param segmentName the name of the segment
+   * @return the route segment, or null if the route declares no such segment
    */
-  private boolean isSegmentValid(String routeString, RouteSegment rs) {
-    return switch (rs.type) {
-      case STR -> getString(routeString, rs.name) != null;
-      case BOOL -> getBool(routeString, rs.name) != null;
-      case INT -> getInt(routeString, rs.name) != null;
-      case NUM -> getNum(routeString, rs.name) != null;
-    };
+  private RouteSegment segmentNamed(String segmentName) {
+    RouteSegment segment = routeSegments.get(segmentName);
+    return segment != null ? segment : querySegments.get(segmentName);
   }
 
   /**
-   * Retrieves the string value of a route segment.
+   * Retrieves the string value of a route segment or declared query parameter, percent-decoded.
    *
    * @param routeString the route string
    * @param segmentName the name of the segment
-   * @return the string value of the segment, or null if not found
+   * @return the decoded string value of the segment, or null if not found
    */
   public String getString(String routeString, String segmentName) {
-    if (routeSegments.containsKey(segmentName)) {
-      RouteSegment segment = routeSegments.get(segmentName);
-      String[] tmp =
-          Arrays.stream(routeString.split("/"))
-              .map(s -> s.split("\\?"))
-              .flatMap(Arrays::stream)
-              .map(s -> s.split("&"))
-              .flatMap(Arrays::stream)
-              .toArray(String[]::new);
-      if (tmp.length < segment.position) {
-        return null;
-      }
-      if (segment.position < tmp.length) {
-        return tmp[segment.position];
-      } else {
-        return null;
-      }
+    RouteSegment segment = routeSegments.get(segmentName);
+    if (segment == null) {
+      return querySegments.containsKey(segmentName)
+          ? pathOf(routeString).query().getString(segmentName)
+          : null;
+    }
+
+    RoutePath path = pathOf(routeString);
+    if (segment.getPosition() < path.size()) {
+      return path.segmentString(segment.getPosition());
     } else {
       return null;
     }
@@ -200,12 +307,8 @@ public class Route {
    */
   public Integer getInt(String routeString, String segmentName) {
     String tmp = getString(routeString, segmentName);
-    if (tmp != null && routeSegments.get(segmentName).type == RouteSegment.SegmentType.INT) {
-      try {
-        return Integer.parseInt(tmp);
-      } catch (NumberFormatException error) {
-        System.err.println("Error parsing integer from string: " + tmp);
-      }
+    if (tmp != null && segmentNamed(segmentName).getType() == RouteSegment.SegmentType.INT) {
+      return RouteSegment.parseInt(tmp);
     }
     return null;
   }
@@ -219,12 +322,8 @@ public class Route {
    */
   public BigDecimal getNum(String routeString, String segmentName) {
     String tmp = getString(routeString, segmentName);
-    if (tmp != null && routeSegments.get(segmentName).type == RouteSegment.SegmentType.NUM) {
-      try {
-        return new BigDecimal(tmp);
-      } catch (NumberFormatException error) {
-        System.err.println("Error parsing integer from string: " + tmp);
-      }
+    if (tmp != null && segmentNamed(segmentName).getType() == RouteSegment.SegmentType.NUM) {
+      return RouteSegment.parseNum(tmp);
     }
     return null;
   }
@@ -238,12 +337,70 @@ public class Route {
    */
   public Boolean getBool(String routeString, String segmentName) {
     String tmp = getString(routeString, segmentName);
-    if (tmp != null && routeSegments.get(segmentName).type == RouteSegment.SegmentType.BOOL) {
-      return !(tmp.equalsIgnoreCase("false") || tmp.equals("0"));
+    if (tmp != null && segmentNamed(segmentName).getType() == RouteSegment.SegmentType.BOOL) {
+      return RouteSegment.parseBool(tmp);
     }
     return null;
   }
 
+  /**
+   * Writes a route string matching this route from parameter values, percent-encoding every value.
+   * The template is compiled into a writer on first use; writing then appends the precompiled parts
+   * and the encoded values to a single buffer.
+   *
+   * <pre>{@code
+   * new Route("users/:id:int/orders/:oid").url(Map.of("id", 42, "oid", "A/7"));
+   * // users/42/orders/A%2F7
+   * }</pre>
+   *
+   * <p>Path parameters are required. Declared query parameters are optional and are written once
+   * per element when their value is a collection. A {@code *} wildcard is written from the value of
+   * the {@code "*"} parameter and a named wildcard from the value of its name; the value may
+   * contain {@code /} and the wildcard is left empty when there is none.
+   *
+   * @param parameters the parameter values keyed by name, converted with {@link Object#toString()}
+   * @return the route string, without a leading slash
+   * @throws IllegalArgumentException if a path parameter is missing or a value does not satisfy the
+   *     type of its parameter
+   */
+  public String url(Map<String, ?> parameters) {
+    RouteWriter result = writer;
+    if (result == null) {
+      result = new RouteWriter(this);
+      writer = result;
+    }
+    return result.write(parameters);
+  }
+
+  /**
+   * Returns the query parameters declared by the template, in declaration order.
+   *
+   * @return the declared query parameters
+   */
+  Collection<RouteSegment> getQuerySegments() {
+    return querySegments.values();
+  }
+
+  /**
+   * Returns every parameter declared by the template, in declaration order: path parameters and
+   * named wildcards, then query parameters. A name declared twice is listed twice, although a match
+   * holds a single value for it.
+   *
+   * @return an unmodifiable list of parameters
+   */
+  public List<RouteParameter> getParameters() {
+    return Collections.unmodifiableList(parameters);
+  }
+
+  /**
+   * Returns the names of the query parameters declared by the template, in declaration order.
+   *
+   * @return an unmodifiable set of query parameter names
+   */
+  public Set<String> getQueryParameterNames() {
+    return Collections.unmodifiableSet(querySegments.keySet());
+  }
+
   /**
    * Returns the original route string.
    *
@@ -254,11 +411,37 @@ public class Route {
   }
 
   /**
-   * Returns the compiled route pattern.
+   * Returns the route template split into segments.
+   *
+   * @return the template segments
+   */
+  RoutePath getTemplate() {
+    return template;
+  }
+
+  /**
+   * Returns the route as a regular expression. Matching does not use the expression; it is compiled
+   * on first access only, for callers that need a {@link Pattern}.
    *
    * @return the compiled route pattern
    */
   public Pattern getRoutePattern() {
-    return routePattern;
+    Pattern pattern = routePattern;
+    if (pattern == null) {
+      final StringBuilder routePatterns = new StringBuilder("^");
+      for (int i = 0; i < template.size(); i++) {
+        if (i > 0) {
+          routePatterns.append("/");
+        }
+        if (isWildcard(i) || segmentsByPosition[i] != null) {
+          routePatterns.append(".*");
+        } else {
+          routePatterns.append(template.rawSegment(i));
+        }
+      }
+      pattern = Pattern.compile(routePatterns.toString(), Pattern.CASE_INSENSITIVE);
+      routePattern = pattern;
+    }
+    return pattern;
   }
 }
@@ -0,0 +1,465 @@
+package com.webforj.addons.services.simplerouter;
+
+import com.webforj.addons.services.simplerouter.RouteReport.Conflict;
+import com.webforj.addons.services.simplerouter.RouteReport.Kind;
+import com.webforj.addons.services.simplerouter.RouteSegment.SegmentType;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds the conflicts between route templates without matching any route string. Templates are
+ * compared as sequences of segments, each accepting a set of values: a literal, the values of a
+ * parameter type, or any number of segments for a wildcard. Set relations between parameter types
+ * are known, except for regular expressions, which are checked against sample values.
+ *
+ * <p>The order in which two matching routes are notified is decided where their templates first
+ * differ, exactly as the {@link RouteTree} walk decides it: literal segments first, then parameters
+ * from the narrowest to the widest type, then wildcards. When both differ by parameters of the same
+ * rank, or do not differ at all, the walk keeps their registration order.
+ */
+final class RouteAnalyzer {
+
+  /** Values tried against parameters whose accepted values are not enumerable. */
+  private static final List<String> SAMPLES =
+      List.of(
+          "0",
+          "1",
+          "42",
+          "-1",
+          "4294967296",
+          "1.5",
+          "a",
+          "abc",
+          "ABC",
+          "true",
+          "false",
+          "2024-01-31",
+          "123e4567-e89b-12d3-a456-426614174000");
+
+  private RouteAnalyzer() {}
+
+  /**
+   * Analyzes a set of routes.
+   *
+   * @param routes the routes, in registration order
+   * @param firstMatchOnly whether only the most specific route is notified, in which case shadowed
+   *     routes are reported as unreachable
+   * @return the report
+   */
+  static RouteReport analyze(Collection<Route> routes, boolean firstMatchOnly) {
+    List<Route> ordered = new ArrayList<>(routes);
+    List<Atom[]> atoms = new ArrayList<>(ordered.size());
+    Set<String> reported = new HashSet<>();
+    List<Conflict> conflicts = new ArrayList<>();
+    for (Route route : ordered) {
+      Atom[] tmp = atoms(route);
+      atoms.add(tmp);
+      for (Atom atom : tmp) {
+        // an enumeration without choices accepts no value
+        if (atom.segment != null
+            && atom.segment.getType() == SegmentType.ENUM
+            && atom.segment.getChoices().isEmpty()
+            && reported.add(route.getRoute())) {
+          conflicts.add(new Conflict(Kind.UNREACHABLE, route.getRoute(), null, null));
+        }
+      }
+    }
+
+    // each route is reported once, for its first conflict
+    for (int j = 0; j < ordered.size(); j++) {
+      for (int i = 0; i < j && !reported.contains(ordered.get(j).getRoute()); i++) {
+        if (!reported.contains(ordered.get(i).getRoute())) {
+          Conflict conflict =
+              compare(ordered.get(i), atoms.get(i), ordered.get(j), atoms.get(j), firstMatchOnly);
+          if (conflict != null && reported.add(conflict.route())) {
+            conflicts.add(conflict);
+          }
+        }
+      }
+    }
+
+    return new RouteReport(ordered.size(), conflicts, new RouteTree(ordered).describe());
+  }
+
+  /**
+   * Compares two routes.
+   *
+   * @param first the route registered first
+   * @param a the segments of the first route
+   * @param second the route registered second
+   * @param b the segments of the second route
+   * @param firstMatchOnly whether only the most specific route is notified
+   * @return the conflict between the routes, or null if they do not conflict
+   */
+  private static Conflict compare(
+      Route first, Atom[] a, Route second, Atom[] b, boolean firstMatchOnly) {
+    Deque<String> example = new ArrayDeque<>();
+    if (!overlap(a, 0, b, 0, example, new HashSet<>())) {
+      return null;
+    }
+    String shown = String.join("/", example);
+    Kind shadowed = firstMatchOnly ? Kind.UNREACHABLE : Kind.SHADOWED;
+
+    Order order = order(a, b);
+    boolean firstBefore = order == Order.BEFORE || order == Order.REGISTRATION;
+    if (firstBefore && covers(first, a, second, b)) {
+      return new Conflict(shadowed, second.getRoute(), first.getRoute(), shown);
+    }
+    if (order == Order.AFTER && covers(second, b, first, a)) {
+      return new Conflict(shadowed, first.getRoute(), second.getRoute(), shown);
+    }
+    if (order == Order.REGISTRATION) {
+      return new Conflict(Kind.AMBIGUOUS, second.getRoute(), first.getRoute(), shown);
+    }
+    return null;
+  }
+
+  /**
+   * Splits the template of a route into segments.
+   *
+   * @param route the route
+   * @return the segments of its template
+   */
+  private static Atom[] atoms(Route route) {
+    RoutePath template = route.getTemplate();
+    Atom[] result = new Atom[template.size()];
+    for (int i = 0; i < result.length; i++) {
+      if (route.isWildcard(i)) {
+        result[i] = new Atom(null, null);
+      } else if (route.segmentAt(i) != null) {
+        result[i] = new Atom(null, route.segmentAt(i));
+      } else {
+        result[i] = new Atom(template.segmentLowerCase(i), null);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Looks for a route string matched by both templates, from the given positions on.
+   *
+   * @param a the segments of the first template
+   * @param i the position in the first template
+   * @param b the segments of the second template
+   * @param j the position in the second template
+   * @param example the segments of the route string found so far, completed on success
+   * @param visited the pairs of positions already explored
+   * @return true if both templates match a common route string, false otherwise
+   */
+  private static boolean overlap(
+      Atom[] a, int i, Atom[] b, int j, Deque<String> example, Set<Long> visited) {
+    if (!visited.add(((long) i << 32) | j)) {
+      return false;
+    }
+    if (i == a.length && j == b.length) {
+      return true;
+    }
+
+    boolean wildcardA = i < a.length && a[i].isWildcard();
+    boolean wildcardB = j < b.length && b[j].isWildcard();
+    if (wildcardA || wildcardB) {
+      if (wildcardA && overlap(a, i + 1, b, j, example, visited)) {
+        return true;
+      }
+      if (wildcardB && overlap(a, i, b, j + 1, example, visited)) {
+        return true;
+      }
+      // a wildcard consumes the segment the other template expects
+      if (wildcardA && j < b.length && !wildcardB) {
+        example.addLast(sample(b[j]));
+        if (overlap(a, i, b, j + 1, example, visited)) {
+          return true;
+        }
+        example.removeLast();
+      }
+      if (wildcardB && i < a.length && !wildcardA) {
+        example.addLast(sample(a[i]));
+        if (overlap(a, i + 1, b, j, example, visited)) {
+          return true;
+        }
+        example.removeLast();
+      }
+      return false;
+    }
+
+    if (i == a.length || j == b.length) {
+      return false;
+    }
+    String value = common(a[i], b[j]);
+    if (value == null) {
+      return false;
+    }
+    example.addLast(value);
+    if (overlap(a, i + 1, b, j + 1, example, visited)) {
+      return true;
+    }
+    example.removeLast();
+    return false;
+  }
+
+  /**
+   * Checks whether a route matches every route string another route matches, query parameters
+   * included. The check is conservative: it may miss an inclusion, never report a false one.
+   *
+   * @param outer the including route
+   * @param a the segments of the including route
+   * @param inner the included route
+   * @param b the segments of the included route
+   * @return true if the including route matches every route string of the included one
+   */
+  private static boolean covers(Route outer, Atom[] a, Route inner, Atom[] b) {
+    for (RouteSegment query : outer.getQuerySegments()) {
+      if (!accepts(query, SegmentType.STR)) {
+        RouteSegment declared = findQuery(inner, query.getName());
+        if (declared == null || !contains(new Atom(null, query), new Atom(null, declared))) {
+          return false;
+        }
+      }
+    }
+    return covers(a, 0, b, 0, new HashMap<>());
+  }
+
+  /**
+   * Checks whether the first template, from the given position on, matches every sequence of
+   * segments the second one matches.
+   *
+   * @param a the segments of the including template
+   * @param i the position in the including template
+   * @param b the segments of the included template
+   * @param j the position in the included template
+   * @param memo the results already computed, by pair of positions
+   * @return true if the inclusion holds, false if it does not or cannot be proven
+   */
+  private static boolean covers(Atom[] a, int i, Atom[] b, int j, Map<Long, Boolean> memo) {
+    Long key = ((long) i << 32) | j;
+    Boolean known = memo.get(key);
+    if (known != null) {
+      return known;
+    }
+
+    boolean result;
+    if (j == b.length) {
+      result = true;
+      for (int k = i; k < a.length; k++) {
+        result &= a[k].isWildcard();
+      }
+    } else if (i == a.length) {
+      result = false;
+    } else if (b[j].isWildcard()) {
+      result = a[i].isWildcard() && (covers(a, i, b, j + 1, memo) || covers(a, i + 1, b, j, memo));
+    } else if (a[i].isWildcard()) {
+      result = covers(a, i + 1, b, j, memo) || covers(a, i, b, j + 1, memo);
+    } else {
+      result = contains(a[i], b[j]) && covers(a, i + 1, b, j + 1, memo);
+    }
+    memo.put(key, result);
+    return result;
+  }
+
+  /**
+   * Decides which of two matching routes the tree walk reaches first, at the first position where
+   * their templates differ.
+   *
+   * @param a the segments of the route registered first
+   * @param b the segments of the route registered second
+   * @return the order of the first route relative to the second
+   */
+  private static Order order(Atom[] a, Atom[] b) {
+    boolean wildcard = false;
+    for (int k = 0; ; k++) {
+      if (k == a.length || k == b.length) {
+        if (a.length == b.length) {
+          return Order.REGISTRATION;
+        }
+        // the routes of a node come before those of its wildcard
+        return wildcard ? Order.UNKNOWN : a.length < b.length ? Order.BEFORE : Order.AFTER;
+      }
+      if (a[k].sameBranch(b[k])) {
+        wildcard |= a[k].isWildcard();
+        continue;
+      }
+      if (wildcard) {
+        // the walk tries the wildcard's extents in turn, so the order depends on the route string
+        return Order.UNKNOWN;
+      }
+      int rankA = a[k].rank();
+      int rankB = b[k].rank();
+      if (rankA == rankB) {
+        return Order.REGISTRATION;
+      }
+      return rankA < rankB ? Order.BEFORE : Order.AFTER;
+    }
+  }
+
+  /**
+   * Finds a value accepted by two segments.
+   *
+   * @param a the first segment
+   * @param b the second segment
+   * @return a common value, or null if none was found
+   */
+  private static String common(Atom a, Atom b) {
+    for (List<String> values : List.of(samples(a), samples(b))) {
+      for (String value : values) {
+        if (a.accepts(value) && b.accepts(value)) {
+          return value;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Checks whether a segment accepts every value another segment accepts.
+   *
+   * @param outer the including segment
+   * @param inner the included segment
+   * @return true if the inclusion holds, false if it does not or cannot be proven
+   */
+  private static boolean contains(Atom outer, Atom inner) {
+    if (inner.literal != null) {
+      // literals match in any case
+      return outer.accepts(inner.literal) && outer.accepts(inner.literal.toUpperCase(Locale.ROOT));
+    }
+    RouteSegment segment = inner.segment;
+    if (segment.getType() == SegmentType.ENUM) {
+      for (String choice : segment.getChoices()) {
+        if (!outer.accepts(choice)
+            || !outer.accepts(choice.toLowerCase(Locale.ROOT))
+            || !outer.accepts(choice.toUpperCase(Locale.ROOT))) {
+          return false;
+        }
+      }
+      return true;
+    }
+    if (outer.segment == null) {
+      return false;
+    }
+    return outer.segment.getTypeKey().equals(segment.getTypeKey())
+        || accepts(outer.segment, segment.getType());
+  }
+
+  /**
+   * Checks whether a parameter accepts every value of a type.
+   *
+   * @param segment the parameter
+   * @param type the type of the values
+   * @return true if the parameter accepts them all, false otherwise
+   */
+  private static boolean accepts(RouteSegment segment, SegmentType type) {
+    switch (segment.getType()) {
+      case STR, BOOL:
+        return true;
+      case LONG:
+        return type == SegmentType.INT || type == SegmentType.LONG;
+      case NUM:
+        return type == SegmentType.INT || type == SegmentType.LONG || type == SegmentType.NUM;
+      case REGEX, ENUM:
+        return false;
+      default:
+        return type == segment.getType();
+    }
+  }
+
+  /**
+   * Returns the declared query parameter of a route with the given name.
+   *
+   * @param route the route
+   * @param name the name of the query parameter
+   * @return the query parameter, or null if the route does not declare it
+   */
+  private static RouteSegment findQuery(Route route, String name) {
+    for (RouteSegment query : route.getQuerySegments()) {
+      if (query.getName().equals(name)) {
+        return query;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns values accepted by a segment: the literal, the choices of an enumerated type, or the
+   * sample values the parameter accepts.
+   *
+   * @param atom the segment
+   * @return the values, possibly empty for a regular expression or an empty enumeration
+   */
+  private static List<String> samples(Atom atom) {
+    if (atom.literal != null) {
+      return List.of(atom.literal);
+    }
+    if (atom.segment.getType() == SegmentType.ENUM) {
+      return atom.segment.getChoices();
+    }
+    return SAMPLES.stream().filter(atom::accepts).toList();
+  }
+
+  /**
+   * Returns a value accepted by a segment, for an example route string.
+   *
+   * @param atom the segment
+   * @return a value, or the parameter name in braces if no sample value is accepted
+   */
+  private static String sample(Atom atom) {
+    List<String> values = samples(atom);
+    return values.isEmpty() ? "{" + atom.segment.getName() + "}" : values.get(0);
+  }
+
+  /** The order of a route relative to another in the tree walk. */
+  private enum Order {
+    BEFORE,
+    AFTER,
+    REGISTRATION,
+    UNKNOWN
+  }
+
+  /**
+   * A segment of a template: a literal, lower-cased, a parameter, or a wildcard when both are null.
+   */
+  private record Atom(String literal, RouteSegment segment) {
+
+    private boolean isWildcard() {
+      return literal == null && segment == null;
+    }
+
+    private boolean accepts(String value) {
+      return literal != null ? literal.equalsIgnoreCase(value) : segment.parse(value) != null;
+    }
+
+    /**
+     * Checks whether two segments lead to the same child of a tree node.
+     *
+     * @param other the other segment
+     * @return true if the segments share their branch, false otherwise
+     */
+    private boolean sameBranch(Atom other) {
+      if (literal != null) {
+        return literal.equals(other.literal);
+      }
+      if (segment != null) {
+        return other.segment != null && segment.getTypeKey().equals(other.segment.getTypeKey());
+      }
+      return other.isWildcard();
+    }
+
+    /**
+     * Ranks the segment in the order the tree walk tries the children of a node.
+     *
+     * @return the rank, lower being tried first
+     */
+    private int rank() {
+      if (literal != null) {
+        return 0;
+      }
+      return segment != null ? 1 + RouteTree.rank(segment) : Integer.MAX_VALUE;
+    }
+  }
+}
@@ -0,0 +1,170 @@
+package com.webforj.addons.services.simplerouter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link RouterMetrics} counting, per route template, how often the route matched and was
+ * dispatched and the time its listeners took, plus the time spent matching overall. Counters are
+ * updated without locks and can be read at any time, for instance by a health or metrics endpoint.
+ *
+ * <pre>{@code
+ * RouteCounters counters = new RouteCounters();
+ * router.setMetrics(counters);
+ * counters.get("orders/:id:int").dispatchNanos();
+ * }</pre>
+ */
+public final class RouteCounters implements RouterMetrics {
+
+  private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+  private final LongAdder navigations = new LongAdder();
+  private final LongAdder coalesced = new LongAdder();
+  private final LongAdder unmatched = new LongAdder();
+  private final LongAdder matchNanos = new LongAdder();
+  private final LongAdder navigationNanos = new LongAdder();
+
+  @Override
+  public void matched(String routeString, int evaluated, List<RouteMatch> matches, long nanos) {
+    matchNanos.add(nanos);
+    if (matches.isEmpty()) {
+      unmatched.increment();
+    }
+    for (RouteMatch match : matches) {
+      counter(match).matches.increment();
+    }
+  }
+
+  @Override
+  public void dispatched(RouteMatch match, long nanos) {
+    Counter counter = counter(match);
+    counter.dispatches.increment();
+    counter.dispatchNanos.add(nanos);
+    counter.maxDispatchNanos.accumulate(nanos);
+  }
+
+  @Override
+  public void navigated(String routeString, int dispatched, long nanos) {
+    navigations.increment();
+    navigationNanos.add(nanos);
+  }
+
+  @Override
+  public void coalesced(String routeString) {
+    coalesced.increment();
+  }
+
+  /**
+   * Returns the counter of the route of a match, creating it if needed.
+   *
+   * @param match the route match
+   * @return the counter of the route template
+   */
+  private Counter counter(RouteMatch match) {
+    return counters.computeIfAbsent(match.getRoute().getRoute(), t -> new Counter());
+  }
+
+  /**
+   * Returns the counters of a route template.
+   *
+   * @param routeTemplate the route template
+   * @return the counters, all zero if the route never matched
+   */
+  public Counters get(String routeTemplate) {
+    Counter counter = counters.get(routeTemplate);
+    return counter == null ? new Counters(0, 0, 0, 0) : counter.read();
+  }
+
+  /**
+   * Returns the counters of every route template that matched at least once.
+   *
+   * @return the counters keyed by route template, sorted by template
+   */
+  public Map<String, Counters> getAll() {
+    Map<String, Counters> result = new TreeMap<>();
+    counters.forEach((template, counter) -> result.put(template, counter.read()));
+    return result;
+  }
+
+  /**
+   * Returns the number of completed navigations.
+   *
+   * @return the number of navigations
+   */
+  public long getNavigations() {
+    return navigations.sum();
+  }
+
+  /**
+   * Returns the number of navigations dropped by coalescing in favor of a later one.
+   *
+   * @return the number of coalesced navigations
+   */
+  public long getCoalesced() {
+    return coalesced.sum();
+  }
+
+  /**
+   * Returns the number of route strings that matched no route.
+   *
+   * @return the number of unmatched route strings
+   */
+  public long getUnmatched() {
+    return unmatched.sum();
+  }
+
+  /**
+   * Returns the total time spent matching route strings.
+   *
+   * @return the matching time, in nanoseconds
+   */
+  public long getMatchNanos() {
+    return matchNanos.sum();
+  }
+
+  /**
+   * Returns the total time spent navigating, matching and dispatching included.
+   *
+   * @return the navigation time, in nanoseconds
+   */
+  public long getNavigationNanos() {
+    return navigationNanos.sum();
+  }
+
+  /** Resets every counter to zero. */
+  public void reset() {
+    counters.clear();
+    navigations.reset();
+    coalesced.reset();
+    unmatched.reset();
+    matchNanos.reset();
+    navigationNanos.reset();
+  }
+
+  /**
+   * The counters of a route template, read at a point in time.
+   *
+   * @param matches the number of times the route matched
+   * @param dispatches the number of times its listeners were notified
+   * @param dispatchNanos the total time spent in its listeners, in nanoseconds
+   * @param maxDispatchNanos the longest time spent in its listeners at once, in nanoseconds
+   */
+  public record Counters(
+      long matches, long dispatches, long dispatchNanos, long maxDispatchNanos) {}
+
+  /** The live counters of a route template. */
+  private static final class Counter {
+    private final LongAdder matches = new LongAdder();
+    private final LongAdder dispatches = new LongAdder();
+    private final LongAdder dispatchNanos = new LongAdder();
+    private final LongAccumulator maxDispatchNanos = new LongAccumulator(Math::max, 0);
+
+    private Counters read() {
+      return new Counters(
+          matches.sum(), dispatches.sum(), dispatchNanos.sum(), maxDispatchNanos.get());
+    }
+  }
+}
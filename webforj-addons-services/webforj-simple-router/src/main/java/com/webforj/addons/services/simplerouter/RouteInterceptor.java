@@ -0,0 +1,27 @@
+package com.webforj.addons.services.simplerouter;
+
+/**
+ * An interceptor running before the listeners of a matched route are notified, for instance to
+ * check authorization, redirect or preload data. Interceptors are attached to a {@link
+ * SimpleRouter}, either globally or to the routes under a prefix, and run in the order they were
+ * added.
+ *
+ * <p>Returning false stops the navigation to the route: its listeners are not notified. To
+ * redirect, an interceptor navigates to another route string and returns false; the navigation it
+ * interrupted is then abandoned entirely.
+ *
+ * @see SimpleRouter#addInterceptor(RouteInterceptor)
+ * @see SimpleRouter#addInterceptor(String, RouteInterceptor)
+ */
+@FunctionalInterface
+public interface RouteInterceptor {
+
+  /**
+   * Invoked before the listeners of a matched route are notified.
+   *
+   * @param router the router navigating
+   * @param match the match of the route about to be notified
+   * @return true to proceed with the navigation to the route, false to stop it
+   */
+  boolean intercept(SimpleRouter router, RouteMatch match);
+}
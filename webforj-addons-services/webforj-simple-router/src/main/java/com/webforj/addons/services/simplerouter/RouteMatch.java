@@ -0,0 +1,205 @@
+package com.webforj.addons.services.simplerouter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The RouteMatch class is the immutable result of matching a route string against a {@link Route}.
+ * Every parameter declared by the route is converted to its declared type exactly once, while
+ * matching, so reading parameters from a match never parses the route string again.
+ */
+public final class RouteMatch {
+
+  private final Route route;
+  private final String routeString;
+  private final QueryParameters query;
+  private final Map<String, String> rawValues;
+  private final Map<String, Object> values;
+
+  /**
+   * Constructs a RouteMatch.
+   *
+   * @param route the matched route
+   * @param routeString the route string that was matched
+   * @param query the query parameters of the route string
+   * @param rawValues the decoded string parameter values, keyed by parameter name, owned by the
+   *     match
+   * @param values the converted parameter values, keyed by parameter name, owned by the match
+   */
+  RouteMatch(
+      Route route,
+      String routeString,
+      QueryParameters query,
+      Map<String, String> rawValues,
+      Map<String, Object> values) {
+    this.route = route;
+    this.routeString = routeString;
+    this.query = query;
+    this.rawValues = Collections.unmodifiableMap(rawValues);
+    this.values = Collections.unmodifiableMap(values);
+  }
+
+  /**
+   * Creates a match of a route that holds no parameter, for code that only knows the route, such as
+   * events built without matching a route string. The route string of the match is the template.
+   *
+   * @param route the route
+   * @return a match without parameters
+   */
+  public static RouteMatch of(Route route) {
+    return new RouteMatch(
+        route, route.getRoute(), QueryParameters.empty(), new HashMap<>(), new HashMap<>());
+  }
+
+  /**
+   * Returns the matched route.
+   *
+   * @return the matched route
+   */
+  public Route getRoute() {
+    return route;
+  }
+
+  /**
+   * Returns the route string that was matched.
+   *
+   * @return the matched route string
+   */
+  public String getRouteString() {
+    return routeString;
+  }
+
+  /**
+   * Returns the query string of the matched route string. It is parsed at most once, and shared by
+   * every route matched during the same navigation.
+   *
+   * @return the query parameters, empty if the route string has no query string
+   */
+  public QueryParameters getQuery() {
+    return query;
+  }
+
+  /**
+   * Returns all converted parameter values, keyed by parameter name. Declared query parameters are
+   * included when present in the route string.
+   *
+   * @return an unmodifiable map of parameter values
+   */
+  public Map<String, Object> getParameters() {
+    return values;
+  }
+
+  /**
+   * Checks whether the route declares a parameter with the given name.
+   *
+   * @param name the name of the parameter
+   * @return true if the parameter has a value in this match, false otherwise
+   */
+  public boolean hasParameter(String name) {
+    return values.containsKey(name);
+  }
+
+  /**
+   * Retrieves the string value of a parameter, percent-decoded, as it was before conversion. The
+   * value of a named wildcard is the captured path, undecoded, so that an encoded {@code /} can be
+   * told apart from a separator; {@link #getPath(String)} decodes it.
+   *
+   * @param name the name of the parameter
+   * @return the string value of the parameter, or null if not found
+   */
+  public String getString(String name) {
+    String value = rawValues.get(name);
+    if (value == null && values.get(name) instanceof WildcardPath path) {
+      return path.raw().toString();
+    }
+    return value;
+  }
+
+  /**
+   * Retrieves the integer value of a parameter.
+   *
+   * @param name the name of the parameter
+   * @return the integer value of the parameter, or null if not found or not an integer
+   */
+  public Integer getInt(String name) {
+    return values.get(name) instanceof Integer value ? value : null;
+  }
+
+  /**
+   * Retrieves the long value of a parameter.
+   *
+   * @param name the name of the parameter
+   * @return the long value of the parameter, or null if not found or not a long
+   */
+  public Long getLong(String name) {
+    return values.get(name) instanceof Long value ? value : null;
+  }
+
+  /**
+   * Retrieves the numeric value of a parameter as a BigDecimal.
+   *
+   * @param name the name of the parameter
+   * @return the numeric value of the parameter, or null if not found or not a number
+   */
+  public BigDecimal getNum(String name) {
+    return values.get(name) instanceof BigDecimal value ? value : null;
+  }
+
+  /**
+   * Retrieves the boolean value of a parameter.
+   *
+   * @param name the name of the parameter
+   * @return the boolean value of the parameter, or null if not found or not a boolean
+   */
+  public Boolean getBool(String name) {
+    return values.get(name) instanceof Boolean value ? value : null;
+  }
+
+  /**
+   * Retrieves the UUID value of a parameter.
+   *
+   * @param name the name of the parameter
+   * @return the UUID value of the parameter, or null if not found or not a UUID
+   */
+  public UUID getUuid(String name) {
+    return values.get(name) instanceof UUID value ? value : null;
+  }
+
+  /**
+   * Retrieves the date value of a parameter.
+   *
+   * @param name the name of the parameter
+   * @return the date value of the parameter, or null if not found or not a date
+   */
+  public LocalDate getDate(String name) {
+    return values.get(name) instanceof LocalDate value ? value : null;
+  }
+
+  /**
+   * Retrieves the path captured by a named wildcard, such as {@code path} for {@code files/*path}.
+   * The path is a view over the route string, percent-decoded when first read.
+   *
+   * @param name the name of the wildcard, without the leading {@code *}
+   * @return the captured path, empty if the wildcard matched no segment, or null if not found
+   */
+  public WildcardPath getPath(String name) {
+    return values.get(name) instanceof WildcardPath value ? value : null;
+  }
+
+  @Override
+  public String toString() {
+    return "RouteMatch{"
+        + "route="
+        + route.getRoute()
+        + ", routeString='"
+        + routeString
+        + '\''
+        + ", parameters="
+        + values
+        + '}';
+  }
+}
@@ -0,0 +1,17 @@
+package com.webforj.addons.services.simplerouter;
+
+/**
+ * A parameter declared by a route template: a path parameter such as {@code :id:int}, a named
+ * wildcard such as {@code *path}, or a query parameter declared after the {@code ?}. Parameters
+ * describe a template as the router reads it, for tools working on templates ahead of matching.
+ *
+ * @param name the parameter name
+ * @param type the type values are converted to: {@code str}, {@code int}, {@code long}, {@code
+ *     num}, {@code bool}, {@code uuid}, {@code date}, {@code enum} or {@code regex}, and {@code
+ *     path} for a named wildcard
+ * @param declaration the type declaration as written in the template, empty if none; a declaration
+ *     naming no known type is matched as {@code str}
+ * @param query whether the parameter is an optional query parameter
+ * @see Route#getParameters()
+ */
+public record RouteParameter(String name, String type, String declaration, boolean query) {}
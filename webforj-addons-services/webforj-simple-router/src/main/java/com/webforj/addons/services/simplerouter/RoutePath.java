@@ -0,0 +1,284 @@
+package com.webforj.addons.services.simplerouter;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * A route string split into its segments in a single pass. The path, up to the first {@code ?}, is
+ * split on {@code /}; empty segments are skipped so that leading, trailing and doubled separators
+ * do not shift segment positions. What follows the {@code ?} is the query string, which takes no
+ * part in segment positions and is only parsed when {@link #query()} is first called.
+ *
+ * <p>The segments are kept as offset pairs into the original string, so looking a segment up is an
+ * index lookup that neither re-scans nor copies the route string. Instances are immutable and can
+ * be shared between threads.
+ *
+ * <p>Segments are compared and converted percent-decoded, each on its own, so that a value written
+ * by {@link RouteWriter} matches back as it was written and an encoded {@code /} stays inside its
+ * segment. When the path holds no escape, which is the common case, a segment is read in place.
+ */
+final class RoutePath implements CharSequence {
+
+  private static final int[] NO_BOUNDS = new int[0];
+
+  private final String source;
+  private final int[] bounds;
+  private final int size;
+  private final String[] lowerCaseCache;
+  private final String[] decodedCache;
+  private final int queryStart;
+  private volatile QueryParameters query;
+
+  /**
+   * Scans the given route string once and records the bounds of every non-empty segment.
+   *
+   * @param source the route string
+   */
+  RoutePath(String source) {
+    this.source = source;
+
+    int[] tmp = NO_BOUNDS;
+    int count = 0;
+    int start = 0;
+    boolean escaped = false;
+    int queryMark = source.indexOf('?');
+    int length = queryMark < 0 ? source.length() : queryMark;
+    for (int i = 0; i <= length; i++) {
+      if (i < length && source.charAt(i) == '%') {
+        escaped = true;
+      } else if (i == length || source.charAt(i) == '/') {
+        if (i > start) {
+          if (tmp.length == count * 2) {
+            tmp = Arrays.copyOf(tmp, Math.max(8, tmp.length * 2));
+          }
+          tmp[count * 2] = start;
+          tmp[count * 2 + 1] = i;
+          count++;
+        }
+        start = i + 1;
+      }
+    }
+
+    this.bounds = tmp;
+    this.size = count;
+    this.lowerCaseCache = new String[count];
+    this.decodedCache = escaped ? new String[count] : null;
+    this.queryStart = queryMark < 0 ? -1 : queryMark + 1;
+  }
+
+  /**
+   * Returns the number of segments.
+   *
+   * @return the number of segments
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Returns the offset of the first character of a segment.
+   *
+   * @param index the segment index
+   * @return the start offset in the route string
+   */
+  int start(int index) {
+    return bounds[index * 2];
+  }
+
+  /**
+   * Returns the offset following the last character of a segment.
+   *
+   * @param index the segment index
+   * @return the end offset in the route string
+   */
+  int end(int index) {
+    return bounds[index * 2 + 1];
+  }
+
+  /**
+   * Returns a segment, percent-decoded. When the path holds no escape the segment is a view over
+   * the route string; otherwise it is decoded at most once.
+   *
+   * @param index the segment index
+   * @return the decoded segment as a character sequence
+   */
+  CharSequence segment(int index) {
+    return decodedCache == null ? new Slice(source, start(index), end(index)) : decoded(index);
+  }
+
+  /**
+   * Returns a segment as a string, percent-decoded.
+   *
+   * @param index the segment index
+   * @return the decoded segment value
+   */
+  String segmentString(int index) {
+    return decodedCache == null ? rawSegment(index) : decoded(index);
+  }
+
+  /**
+   * Returns a segment as it appears in the route string, without decoding it.
+   *
+   * @param index the segment index
+   * @return the undecoded segment value
+   */
+  String rawSegment(int index) {
+    return source.substring(start(index), end(index));
+  }
+
+  /**
+   * Decodes a segment of a path holding escapes. The value is computed at most once per segment.
+   *
+   * @param index the segment index
+   * @return the decoded segment value
+   */
+  private String decoded(int index) {
+    String value = decodedCache[index];
+    if (value == null) {
+      value = UrlCodec.decode(source, start(index), end(index), false);
+      decodedCache[index] = value;
+    }
+    return value;
+  }
+
+  /**
+   * Returns a segment, percent-decoded, in lower case. The value is computed at most once per
+   * segment.
+   *
+   * @param index the segment index
+   * @return the lower-cased decoded segment value
+   */
+  String segmentLowerCase(int index) {
+    String value = lowerCaseCache[index];
+    if (value == null) {
+      value = segmentString(index).toLowerCase(Locale.ROOT);
+      lowerCaseCache[index] = value;
+    }
+    return value;
+  }
+
+  /**
+   * Checks whether a segment, undecoded, equals the given string.
+   *
+   * @param index the segment index
+   * @param value the string to compare
+   * @return true if the segment equals the value, false otherwise
+   */
+  boolean segmentEquals(int index, String value) {
+    int start = start(index);
+    int length = end(index) - start;
+    return length == value.length() && source.regionMatches(start, value, 0, length);
+  }
+
+  /**
+   * Checks whether a segment, undecoded, starts with the given character.
+   *
+   * @param index the segment index
+   * @param c the character to check
+   * @return true if the segment starts with the character, false otherwise
+   */
+  boolean segmentStartsWith(int index, char c) {
+    return source.charAt(start(index)) == c;
+  }
+
+  /**
+   * Checks whether the route string has a query string, even an empty one.
+   *
+   * @return true if the route string contains a {@code ?}, false otherwise
+   */
+  boolean hasQuery() {
+    return queryStart >= 0;
+  }
+
+  /**
+   * Returns the query string, undecoded and without its leading {@code ?}.
+   *
+   * @return the raw query string, empty if there is none
+   */
+  String queryString() {
+    return queryStart < 0 ? "" : source.substring(queryStart);
+  }
+
+  /**
+   * Returns the parameters of the query string. They are created once per path and decoded on first
+   * access, so every route matched against this path shares a single parse.
+   *
+   * @return the query parameters, empty if there is no query string
+   */
+  QueryParameters query() {
+    QueryParameters result = query;
+    if (result == null) {
+      result =
+          queryStart < 0 || queryStart == source.length()
+              ? QueryParameters.empty()
+              : new QueryParameters(source, queryStart, source.length());
+      query = result;
+    }
+    return result;
+  }
+
+  /**
+   * Returns the route string this path was parsed from.
+   *
+   * @return the original route string
+   */
+  String source() {
+    return source;
+  }
+
+  @Override
+  public int length() {
+    return source.length();
+  }
+
+  @Override
+  public char charAt(int index) {
+    return source.charAt(index);
+  }
+
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    return new Slice(source, start, end);
+  }
+
+  @Override
+  public String toString() {
+    return source;
+  }
+
+  /**
+   * A read-only view over a range of the route string.
+   *
+   * @param source the route string
+   * @param start the offset of the first character of the range
+   * @param end the offset following the last character of the range
+   */
+  record Slice(String source, int start, int end) implements CharSequence {
+
+    @Override
+    public int length() {
+      return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+      if (index < 0 || index >= length()) {
+        throw new IndexOutOfBoundsException(index);
+      }
+      return source.charAt(start + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+      if (from < 0 || to > length() || from > to) {
+        throw new IndexOutOfBoundsException();
+      }
+      return new Slice(source, start + from, start + to);
+    }
+
+    @Override
+    public String toString() {
+      return source.substring(start, end);
+    }
+  }
+}
@@ -0,0 +1,246 @@
+package com.webforj.addons.services.simplerouter;
+
+import com.webforj.addons.services.simplerouter.event.SimpleRouteMatchEvent;
+import com.webforj.dispatcher.EventDispatcher;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable snapshot of what a {@link SimpleRouter} has registered: the dispatcher of every
+ * route string, the interceptors and the interceptor chain resolved for every route. Routes
+ * themselves are compiled in the {@link RouteTable#getShared() shared route table}; the registry
+ * only holds the listener bindings of one router. Registering returns a new snapshot, which the
+ * router publishes atomically, so navigation reads a consistent registry without locks or copies
+ * while routes are registered from other threads.
+ */
+final class RouteRegistry {
+
+  static final RouteRegistry EMPTY = new RouteRegistry(Map.of(), Map.of(), List.of());
+
+  private static final RouteInterceptor[] NO_INTERCEPTORS = new RouteInterceptor[0];
+
+  private final Map<String, EventDispatcher> dispatchers;
+  private final Map<String, RouteInterceptor[]> chains;
+  private final List<Interceptor> interceptors;
+
+  /**
+   * Constructs a RouteRegistry.
+   *
+   * @param dispatchers the dispatchers keyed by route string, owned by the registry
+   * @param chains the interceptor chains keyed by route string, owned by the registry
+   * @param interceptors the interceptors in the order they were added, owned by the registry
+   */
+  private RouteRegistry(
+      Map<String, EventDispatcher> dispatchers,
+      Map<String, RouteInterceptor[]> chains,
+      List<Interceptor> interceptors) {
+    this.dispatchers = Collections.unmodifiableMap(dispatchers);
+    this.chains = Collections.unmodifiableMap(chains);
+    this.interceptors = Collections.unmodifiableList(interceptors);
+  }
+
+  /**
+   * Returns a registry holding a dispatcher for the given route string.
+   *
+   * @param routeString the route string to register
+   * @return the new registry, or this registry if the route string is already registered
+   */
+  RouteRegistry withRoute(String routeString) {
+    return withRoutes(List.of(routeString));
+  }
+
+  /**
+   * Returns a registry holding a dispatcher for each of the given route strings, copying the
+   * registry once whatever the number of route strings.
+   *
+   * @param routeStrings the route strings to register
+   * @return the new registry, or this registry if every route string is already registered
+   */
+  RouteRegistry withRoutes(Collection<String> routeStrings) {
+    if (dispatchers.keySet().containsAll(routeStrings)) {
+      return this;
+    }
+
+    Map<String, EventDispatcher> newDispatchers = new HashMap<>(dispatchers);
+    Map<String, RouteInterceptor[]> newChains = new HashMap<>(chains);
+    for (String routeString : routeStrings) {
+      if (newDispatchers.putIfAbsent(routeString, new EventDispatcher()) == null) {
+        newChains.put(routeString, resolve(interceptors, routeString));
+      }
+    }
+    return new RouteRegistry(newDispatchers, newChains, interceptors);
+  }
+
+  /**
+   * Returns a registry without the given route strings. Their dispatchers are dropped, so the
+   * router no longer matches them; their compiled routes stay in the shared route table.
+   *
+   * @param routeStrings the route strings to remove
+   * @return the new registry, or this registry if none of the route strings is registered
+   */
+  RouteRegistry withoutRoutes(Collection<String> routeStrings) {
+    if (routeStrings.stream().noneMatch(dispatchers::containsKey)) {
+      return this;
+    }
+
+    Map<String, EventDispatcher> newDispatchers = new HashMap<>(dispatchers);
+    newDispatchers.keySet().removeAll(routeStrings);
+    Map<String, RouteInterceptor[]> newChains = new HashMap<>(chains);
+    newChains.keySet().removeAll(routeStrings);
+    return new RouteRegistry(newDispatchers, newChains, interceptors);
+  }
+
+  /**
+   * Returns a registry with an interceptor added to the routes under a prefix.
+   *
+   * @param prefix the route template prefix, empty for every route
+   * @param interceptor the interceptor to add
+   * @return the new registry
+   */
+  RouteRegistry withInterceptor(String prefix, RouteInterceptor interceptor) {
+    List<Interceptor> newInterceptors = new ArrayList<>(interceptors);
+    newInterceptors.add(new Interceptor(new RoutePath(prefix), interceptor));
+    return withInterceptors(newInterceptors);
+  }
+
+  /**
+   * Returns a registry without the given interceptor, whatever the prefixes it was added to.
+   *
+   * @param interceptor the interceptor to remove
+   * @return the new registry, or this registry if the interceptor was not added
+   */
+  RouteRegistry withoutInterceptor(RouteInterceptor interceptor) {
+    List<Interceptor> newInterceptors = new ArrayList<>(interceptors);
+    if (!newInterceptors.removeIf(i -> i.interceptor() == interceptor)) {
+      return this;
+    }
+    return withInterceptors(newInterceptors);
+  }
+
+  /**
+   * Returns a registry with the given interceptors, resolving the chain of every route again.
+   *
+   * @param newInterceptors the interceptors in the order they were added
+   * @return the new registry
+   */
+  private RouteRegistry withInterceptors(List<Interceptor> newInterceptors) {
+    Map<String, RouteInterceptor[]> newChains = new HashMap<>();
+    for (String routeString : dispatchers.keySet()) {
+      newChains.put(routeString, resolve(newInterceptors, routeString));
+    }
+    return new RouteRegistry(dispatchers, newChains, newInterceptors);
+  }
+
+  /**
+   * Resolves the interceptors applying to a route, in the order they were added.
+   *
+   * @param interceptors the interceptors in the order they were added
+   * @param routeString the route template
+   * @return the interceptor chain of the route
+   */
+  private static RouteInterceptor[] resolve(List<Interceptor> interceptors, String routeString) {
+    if (interceptors.isEmpty()) {
+      return NO_INTERCEPTORS;
+    }
+    RoutePath template = new RoutePath(routeString);
+    return interceptors.stream()
+        .filter(i -> i.covers(template))
+        .map(Interceptor::interceptor)
+        .toArray(RouteInterceptor[]::new);
+  }
+
+  /**
+   * Checks whether a route string is registered.
+   *
+   * @param routeString the route string
+   * @return true if the route string has a dispatcher, false otherwise
+   */
+  boolean contains(String routeString) {
+    return dispatchers.containsKey(routeString);
+  }
+
+  /**
+   * Returns the dispatcher of a route string.
+   *
+   * @param routeString the route string
+   * @return the dispatcher, or null if the route string is not registered
+   */
+  EventDispatcher getDispatcher(String routeString) {
+    return dispatchers.get(routeString);
+  }
+
+  /**
+   * Returns the dispatchers of every registered route string.
+   *
+   * @return an unmodifiable collection of dispatchers
+   */
+  Collection<EventDispatcher> getDispatchers() {
+    return dispatchers.values();
+  }
+
+  /**
+   * Returns the route strings whose dispatcher has no listener left.
+   *
+   * @return the route strings of the dead routes
+   */
+  List<String> getDeadRoutes() {
+    List<String> dead = new ArrayList<>();
+    dispatchers.forEach(
+        (routeString, dispatcher) -> {
+          if (dispatcher.getCount(SimpleRouteMatchEvent.class) == 0) {
+            dead.add(routeString);
+          }
+        });
+    return dead;
+  }
+
+  /**
+   * Checks whether any interceptor was added.
+   *
+   * @return true if there is at least one interceptor, false otherwise
+   */
+  boolean hasInterceptors() {
+    return !interceptors.isEmpty();
+  }
+
+  /**
+   * Returns the interceptor chain resolved for a route string.
+   *
+   * @param routeString the route string
+   * @return the interceptors applying to the route, in order
+   */
+  RouteInterceptor[] getInterceptors(String routeString) {
+    return chains.getOrDefault(routeString, NO_INTERCEPTORS);
+  }
+
+  /**
+   * An interceptor added to the routes under a prefix.
+   *
+   * @param prefix the route template prefix, empty for every route
+   * @param interceptor the interceptor
+   */
+  private record Interceptor(RoutePath prefix, RouteInterceptor interceptor) {
+
+    /**
+     * Checks whether a route template is under the prefix.
+     *
+     * @param template the route template
+     * @return true if the template starts with the segments of the prefix, false otherwise
+     */
+    private boolean covers(RoutePath template) {
+      if (prefix.size() > template.size()) {
+        return false;
+      }
+      for (int i = 0; i < prefix.size(); i++) {
+        if (!prefix.segmentLowerCase(i).equals(template.segmentLowerCase(i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
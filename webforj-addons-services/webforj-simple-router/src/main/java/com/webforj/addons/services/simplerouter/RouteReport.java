@@ -0,0 +1,160 @@
+package com.webforj.addons.services.simplerouter;
+
+import java.util.List;
+
+/**
+ * The conflicts found between the templates of a set of routes, with the decision tree the router
+ * walks to match them. A report is produced by {@link RouteTable#analyze(boolean)} or {@link
+ * SimpleRouter#analyzeRoutes()}, typically once at startup:
+ *
+ * <pre>{@code
+ * SimpleRouter.getInstance().analyzeRoutes().validate();
+ * }</pre>
+ *
+ * <p>Templates are compared segment by segment, on the values each segment accepts. Regular
+ * expression parameters are compared against sample values only, so overlaps involving them may go
+ * unreported; a reported conflict always comes with a route string showing it.
+ */
+public final class RouteReport {
+
+  /** The kind of a conflict. */
+  public enum Kind {
+    /**
+     * Every route string the route matches is matched by another route notified first: in
+     * first-match mode the route is never notified, otherwise it is always notified second.
+     */
+    SHADOWED,
+
+    /**
+     * The route and another one match common route strings with the same specificity, so which is
+     * notified first, or alone in first-match mode, depends on their registration order.
+     */
+    AMBIGUOUS,
+
+    /** The route is never notified, because it matches no route string or is always shadowed. */
+    UNREACHABLE
+  }
+
+  private final int routeCount;
+  private final List<Conflict> conflicts;
+  private final String decisionTree;
+
+  /**
+   * Constructs a RouteReport.
+   *
+   * @param routeCount the number of routes analyzed
+   * @param conflicts the conflicts found
+   * @param decisionTree the outline of the route tree
+   */
+  RouteReport(int routeCount, List<Conflict> conflicts, String decisionTree) {
+    this.routeCount = routeCount;
+    this.conflicts = List.copyOf(conflicts);
+    this.decisionTree = decisionTree;
+  }
+
+  /**
+   * Returns the number of routes analyzed.
+   *
+   * @return the number of routes
+   */
+  public int getRouteCount() {
+    return routeCount;
+  }
+
+  /**
+   * Returns every conflict found, in the registration order of the affected routes.
+   *
+   * @return an unmodifiable list of conflicts
+   */
+  public List<Conflict> getConflicts() {
+    return conflicts;
+  }
+
+  /**
+   * Returns the conflicts of a kind.
+   *
+   * @param kind the kind of conflict
+   * @return an unmodifiable list of conflicts
+   */
+  public List<Conflict> getConflicts(Kind kind) {
+    return conflicts.stream().filter(c -> c.kind() == kind).toList();
+  }
+
+  /**
+   * Checks whether any conflict was found.
+   *
+   * @return true if the routes conflict, false otherwise
+   */
+  public boolean hasConflicts() {
+    return !conflicts.isEmpty();
+  }
+
+  /**
+   * Returns the decision tree the router walks to match the routes, one node per line, indented by
+   * depth. Children are listed in the order they are tried: literal segments, typed parameters from
+   * the narrowest to the widest type, then the wildcard. A node where routes end lists them after
+   * {@code ->}.
+   *
+   * <pre>
+   * /
+   *   users
+   *     :int -&gt; users/:id:int
+   *     * -&gt; users/*
+   * </pre>
+   *
+   * @return the outline of the decision tree
+   */
+  public String getDecisionTree() {
+    return decisionTree;
+  }
+
+  /**
+   * Fails if any conflict was found, for use as a startup check.
+   *
+   * @return this report, when there is no conflict
+   * @throws IllegalStateException if the routes conflict, listing the conflicts
+   */
+  public RouteReport validate() {
+    if (hasConflicts()) {
+      throw new IllegalStateException(toString());
+    }
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder out =
+        new StringBuilder()
+            .append(conflicts.size())
+            .append(" conflict(s) between ")
+            .append(routeCount)
+            .append(" route(s)");
+    for (Conflict conflict : conflicts) {
+      out.append('\n').append(conflict);
+    }
+    return out.toString();
+  }
+
+  /**
+   * A conflict between routes.
+   *
+   * @param kind the kind of conflict
+   * @param route the template of the affected route
+   * @param other the template of the route it conflicts with, or null if the route matches nothing
+   * @param example a route string showing the conflict, or null if the route matches nothing
+   */
+  public record Conflict(Kind kind, String route, String other, String example) {
+
+    @Override
+    public String toString() {
+      if (other == null) {
+        return kind + " " + route + ": a parameter accepts no value";
+      }
+      String relation =
+          kind == Kind.AMBIGUOUS
+              ? " overlaps " + other + " with the same specificity"
+              : " is shadowed by " + other;
+      return kind + " " + route + relation + ", e.g. '" + example + "'";
+    }
+  }
+}
@@ -0,0 +1,430 @@
+package com.webforj.addons.services.simplerouter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Represents a parameter segment of a route template, such as {@code :id:int}. A segment knows its
+ * position in the template, its name and the type its value must satisfy.
+ *
+ * <p>The supported types are {@code str} (the default), {@code int}, {@code long}, {@code num},
+ * {@code bool}, {@code uuid}, {@code date} (ISO {@code yyyy-MM-dd}), enumerated sets written as
+ * {@code enum(open,closed)} and regular expressions written as {@code regex([A-Z]{3})}. Since
+ * {@code /} separates segments and {@code ?} ends the path, neither can appear in a type
+ * declaration; {@code &} separates query parameters, so it cannot appear in the declaration of one.
+ *
+ * <p>Values are converted without throwing: a value that does not satisfy the type is reported as
+ * {@code null}, so malformed route strings cost no exception construction.
+ */
+final class RouteSegment {
+
+  /** Enum representing the type of the segment. */
+  enum SegmentType {
+    STR,
+    INT,
+    LONG,
+    NUM,
+    BOOL,
+    UUID,
+    DATE,
+    ENUM,
+    REGEX
+  }
+
+  /** The largest exponent magnitude accepted by {@code num} segments. */
+  static final int MAX_NUM_EXPONENT = 1000;
+
+  private final int position;
+  private final SegmentType type;
+  private final String name;
+  private final String declaration;
+  private final String typeKey;
+  private final List<String> choices;
+  private final Pattern constraint;
+
+  /**
+   * Constructs a RouteSegment with the specified position and segment string.
+   *
+   * @param position the position of the segment in the route, -1 for a declared query parameter
+   * @param segStr the segment string
+   * @throws IllegalArgumentException if the segment declares an invalid regular expression
+   */
+  RouteSegment(int position, String segStr) {
+    this.position = position;
+
+    String[] tmp = segStr.split(":", 3);
+    this.name = tmp[1];
+    this.declaration = tmp.length == 3 ? tmp[2] : "";
+    this.type = parseType(declaration);
+
+    List<String> options = List.of();
+    Pattern pattern = null;
+    if (type == SegmentType.ENUM) {
+      options = new ArrayList<>();
+      for (String option : arguments(declaration).split(",")) {
+        if (!option.isBlank()) {
+          options.add(option.trim());
+        }
+      }
+    } else if (type == SegmentType.REGEX) {
+      try {
+        pattern = Pattern.compile(arguments(declaration));
+      } catch (PatternSyntaxException e) {
+        throw new IllegalArgumentException(
+            "Invalid regular expression in route segment '" + segStr + "'", e);
+      }
+    }
+
+    this.choices = List.copyOf(options);
+    this.constraint = pattern;
+    this.typeKey =
+        switch (type) {
+          // as declared: the choice a value resolves to is part of what the segment yields
+          case ENUM -> "enum(" + String.join(",", choices) + ")";
+          case REGEX -> "regex(" + constraint.pattern() + ")";
+          default -> type.name();
+        };
+  }
+
+  /**
+   * Resolves the segment type from the type declaration of a segment string.
+   *
+   * @param declaration the type declaration, for instance {@code int} or {@code enum(a,b)}
+   * @return the matching segment type, {@link SegmentType#STR} when unknown
+   */
+  private static SegmentType parseType(String declaration) {
+    if (declaration.startsWith("enum(") && declaration.endsWith(")")) {
+      return SegmentType.ENUM;
+    }
+    if (declaration.startsWith("regex(") && declaration.endsWith(")")) {
+      return SegmentType.REGEX;
+    }
+    return switch (declaration) {
+      case "int" -> SegmentType.INT;
+      case "long" -> SegmentType.LONG;
+      case "num" -> SegmentType.NUM;
+      case "bool" -> SegmentType.BOOL;
+      case "uuid" -> SegmentType.UUID;
+      case "date" -> SegmentType.DATE;
+      default -> SegmentType.STR;
+    };
+  }
+
+  /**
+   * Returns the text between the first opening and the last closing parenthesis of a declaration.
+   *
+   * @param declaration the type declaration
+   * @return the declaration arguments
+   */
+  private static String arguments(String declaration) {
+    return declaration.substring(declaration.indexOf('(') + 1, declaration.length() - 1);
+  }
+
+  /**
+   * Converts a raw segment value to the type of this segment.
+   *
+   * @param value the raw segment value
+   * @return the converted value, or null if the value does not satisfy the segment type
+   */
+  Object parse(CharSequence value) {
+    return switch (type) {
+      case STR -> value.toString();
+      case INT -> parseInt(value);
+      case LONG -> parseLong(value);
+      case NUM -> parseNum(value);
+      case BOOL -> parseBool(value);
+      case UUID -> parseUuid(value);
+      case DATE -> parseDate(value);
+      case ENUM -> parseChoice(value);
+      case REGEX -> constraint.matcher(value).matches() ? value.toString() : null;
+    };
+  }
+
+  /**
+   * Converts a value to an {@link Integer}.
+   *
+   * @param value the value to convert
+   * @return the converted value, or null if the value is not a decimal integer within range
+   */
+  static Integer parseInt(CharSequence value) {
+    Long result = parseLong(value);
+    if (result == null || result < Integer.MIN_VALUE || result > Integer.MAX_VALUE) {
+      return null;
+    }
+    return result.intValue();
+  }
+
+  /**
+   * Converts a value to a {@link Long}.
+   *
+   * @param value the value to convert
+   * @return the converted value, or null if the value is not a decimal integer within range
+   */
+  static Long parseLong(CharSequence value) {
+    int length = value.length();
+    if (length == 0) {
+      return null;
+    }
+
+    int i = 0;
+    boolean negative = false;
+    char first = value.charAt(0);
+    if (first == '-' || first == '+') {
+      negative = first == '-';
+      i++;
+      if (length == 1) {
+        return null;
+      }
+    }
+
+    // accumulate negatively so that Long.MIN_VALUE does not overflow
+    long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+    long result = 0;
+    for (; i < length; i++) {
+      int digit = value.charAt(i) - '0';
+      if (digit < 0 || digit > 9 || result < limit / 10) {
+        return null;
+      }
+      result *= 10;
+      if (result < limit + digit) {
+        return null;
+      }
+      result -= digit;
+    }
+    return negative ? result : -result;
+  }
+
+  /**
+   * Converts a value to a {@link BigDecimal}. The value is checked against the decimal grammar
+   * before conversion, so the conversion itself cannot fail. The exponent is limited to {@value
+   * #MAX_NUM_EXPONENT} in magnitude: a URL such as {@code 1e999999999} would otherwise hand
+   * listeners a number whose plain or integer form has a billion digits.
+   *
+   * @param value the value to convert
+   * @return the converted value, or null if the value is not a decimal number
+   */
+  static BigDecimal parseNum(CharSequence value) {
+    int length = value.length();
+    int i = 0;
+    if (i < length && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+      i++;
+    }
+
+    int digits = 0;
+    while (i < length && isDigit(value.charAt(i))) {
+      i++;
+      digits++;
+    }
+    if (i < length && value.charAt(i) == '.') {
+      i++;
+      while (i < length && isDigit(value.charAt(i))) {
+        i++;
+        digits++;
+      }
+    }
+    if (digits == 0) {
+      return null;
+    }
+
+    if (i < length && (value.charAt(i) == 'e' || value.charAt(i) == 'E')) {
+      i++;
+      if (i < length && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+        i++;
+      }
+      int exponentDigits = 0;
+      int exponent = 0;
+      while (i < length && isDigit(value.charAt(i))) {
+        exponent = exponent * 10 + value.charAt(i) - '0';
+        if (exponent > MAX_NUM_EXPONENT) {
+          return null;
+        }
+        i++;
+        exponentDigits++;
+      }
+      if (exponentDigits == 0) {
+        return null;
+      }
+    }
+
+    return i == length ? new BigDecimal(value.toString()) : null;
+  }
+
+  /**
+   * Converts a value to a {@link Boolean}. Every value is accepted: {@code false} (in any case) and
+   * {@code 0} are false, anything else is true.
+   *
+   * @param value the value to convert
+   * @return the converted value
+   */
+  static Boolean parseBool(CharSequence value) {
+    String tmp = value.toString();
+    return !(tmp.equalsIgnoreCase("false") || tmp.equals("0"));
+  }
+
+  /**
+   * Converts a value in the canonical {@code 8-4-4-4-12} hexadecimal form to a {@link UUID}.
+   *
+   * @param value the value to convert
+   * @return the converted value, or null if the value is not a canonical UUID
+   */
+  static UUID parseUuid(CharSequence value) {
+    if (value.length() != 36) {
+      return null;
+    }
+
+    long msb = 0;
+    long lsb = 0;
+    int nibbles = 0;
+    for (int i = 0; i < 36; i++) {
+      char c = value.charAt(i);
+      if (i == 8 || i == 13 || i == 18 || i == 23) {
+        if (c != '-') {
+          return null;
+        }
+        continue;
+      }
+      int nibble = Character.digit(c, 16);
+      if (nibble < 0) {
+        return null;
+      }
+      if (nibbles < 16) {
+        msb = (msb << 4) | nibble;
+      } else {
+        lsb = (lsb << 4) | nibble;
+      }
+      nibbles++;
+    }
+    return new UUID(msb, lsb);
+  }
+
+  /**
+   * Converts a value in the ISO {@code yyyy-MM-dd} form to a {@link LocalDate}.
+   *
+   * @param value the value to convert
+   * @return the converted value, or null if the value is not a valid calendar date
+   */
+  static LocalDate parseDate(CharSequence value) {
+    if (value.length() != 10 || value.charAt(4) != '-' || value.charAt(7) != '-') {
+      return null;
+    }
+
+    int year = digits(value, 0, 4);
+    int month = digits(value, 5, 7);
+    int day = digits(value, 8, 10);
+    if (year < 0 || month < 1 || month > 12 || day < 1) {
+      return null;
+    }
+    if (day > YearMonth.of(year, month).lengthOfMonth()) {
+      return null;
+    }
+    return LocalDate.of(year, month, day);
+  }
+
+  /**
+   * Resolves a value against the declared choices, ignoring case.
+   *
+   * @param value the value to resolve
+   * @return the declared choice equal to the value, or null if there is none
+   */
+  private String parseChoice(CharSequence value) {
+    String tmp = value.toString();
+    for (String choice : choices) {
+      if (choice.equalsIgnoreCase(tmp)) {
+        return choice;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Reads a run of decimal digits.
+   *
+   * @param value the value to read
+   * @param start the offset of the first digit
+   * @param end the offset following the last digit
+   * @return the number formed by the digits, or -1 if a character is not a digit
+   */
+  private static int digits(CharSequence value, int start, int end) {
+    int result = 0;
+    for (int i = start; i < end; i++) {
+      char c = value.charAt(i);
+      if (!isDigit(c)) {
+        return -1;
+      }
+      result = result * 10 + (c - '0');
+    }
+    return result;
+  }
+
+  /**
+   * Checks whether the given character is an ASCII decimal digit.
+   *
+   * @param c the character to check
+   * @return true if the character is a digit, false otherwise
+   */
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  int getPosition() {
+    return position;
+  }
+
+  SegmentType getType() {
+    return type;
+  }
+
+  String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the type declaration as written in the template, such as {@code int} or {@code
+   * enum(a,b)}.
+   *
+   * @return the type declaration, empty if the segment declares no type
+   */
+  String getDeclaration() {
+    return declaration;
+  }
+
+  /**
+   * Returns the choices of an enumerated segment, as declared.
+   *
+   * @return an unmodifiable list of choices, empty for other types
+   */
+  List<String> getChoices() {
+    return choices;
+  }
+
+  /**
+   * Returns a key identifying the set of values the segment accepts and what it converts them to.
+   * Two segments with the same key accept exactly the same values and convert them alike, whatever
+   * their names; enumerated segments whose choices differ in case only have different keys.
+   *
+   * @return the type key
+   */
+  String getTypeKey() {
+    return typeKey;
+  }
+
+  @Override
+  public String toString() {
+    return "RouteSegment{"
+        + "position="
+        + position
+        + ", type='"
+        + typeKey
+        + '\''
+        + ", name='"
+        + name
+        + '\''
+        + '}';
+  }
+}
@@ -0,0 +1,335 @@
+package com.webforj.addons.services.simplerouter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+/**
+ * The RouteTable class is an immutable set of compiled routes together with the tree matching them.
+ * Adding routes returns a new table that reuses the routes already compiled, so tables can be
+ * shared freely between threads and sessions.
+ *
+ * <p>Routes known for the whole application should be registered once, at startup, in the shared
+ * table:
+ *
+ * <pre>{@code
+ * RouteTable.registerShared("users/:id:int", "users/:id:int/orders", "about");
+ * }</pre>
+ *
+ * <p>Every {@link SimpleRouter} matches against the shared table and only keeps its own listener
+ * bindings, so sessions neither compile nor hold copies of the routes. Route strings registered
+ * through {@link SimpleRouter#onRouteMatch} that are not in the shared table yet are compiled into
+ * it, once for the whole application; a router skips the routes it has no listener for. Route
+ * strings are never removed from the shared table, so they should come from a bounded set, such as
+ * the templates of the application, rather than be built per user.
+ */
+public final class RouteTable {
+
+  private static final RouteTable EMPTY = new RouteTable(Map.of());
+  private static final AtomicReference<RouteTable> shared = new AtomicReference<>(EMPTY);
+
+  private final Map<String, Route> routes;
+  private volatile RouteTree tree;
+
+  /**
+   * Constructs a RouteTable.
+   *
+   * @param routes the compiled routes keyed by route string, owned by the table
+   */
+  private RouteTable(Map<String, Route> routes) {
+    this.routes = Collections.unmodifiableMap(routes);
+  }
+
+  /**
+   * Returns the empty route table.
+   *
+   * @return the empty route table
+   */
+  public static RouteTable empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Creates a route table holding the given route strings.
+   *
+   * @param routeStrings the route strings to compile
+   * @return the route table
+   */
+  public static RouteTable of(String... routeStrings) {
+    return EMPTY.with(routeStrings);
+  }
+
+  /**
+   * Returns the route table shared by every router of the application.
+   *
+   * @return the shared route table
+   */
+  public static RouteTable getShared() {
+    return shared.get();
+  }
+
+  /**
+   * Adds route strings to the route table shared by every router of the application. Route strings
+   * already in the shared table are ignored, so the call is idempotent and can be made safely from
+   * concurrent application startups.
+   *
+   * @param routeStrings the route strings to add
+   * @return the new shared route table
+   */
+  public static RouteTable registerShared(String... routeStrings) {
+    return shared.updateAndGet(table -> table.with(routeStrings));
+  }
+
+  /**
+   * Returns a table holding the routes of this table and the given route strings. Only route
+   * strings not already in this table are compiled.
+   *
+   * @param routeStrings the route strings to add
+   * @return the new table, or this table if every route string is already present
+   */
+  public RouteTable with(String... routeStrings) {
+    Map<String, Route> added = null;
+    for (String routeString : routeStrings) {
+      if (!routes.containsKey(routeString)) {
+        if (added == null) {
+          added = new LinkedHashMap<>();
+        }
+        added.computeIfAbsent(routeString, Route::new);
+      }
+    }
+
+    if (added == null) {
+      return this;
+    }
+
+    Map<String, Route> merged = new LinkedHashMap<>(routes);
+    merged.putAll(added);
+    return new RouteTable(merged);
+  }
+
+  /**
+   * Returns a table holding the routes of this table and those of the given table. Compiled routes
+   * are reused, not compiled again.
+   *
+   * @param other the table to merge
+   * @return the new table, or this table if it already holds every route of the other one
+   */
+  public RouteTable with(RouteTable other) {
+    if (routes.keySet().containsAll(other.routes.keySet())) {
+      return this;
+    }
+
+    Map<String, Route> merged = new LinkedHashMap<>(routes);
+    other.routes.forEach(merged::putIfAbsent);
+    return new RouteTable(merged);
+  }
+
+  /**
+   * Returns a table holding the routes of this table and the routes of a child table mounted under
+   * a prefix, so that a feature module can own its routes and be mounted where the application
+   * decides. A child route {@code users/:id:int} mounted under {@code admin} becomes {@code
+   * admin/users/:id:int}; listeners are registered for that route string. The prefix may end with
+   * {@code /*}, as in {@code admin/*}, and may declare parameters, as in {@code orgs/:org}.
+   *
+   * <p>Templates sharing the prefix share its branch of the route tree, so matching compares the
+   * prefix once and only descends into the mounted routes when it matches.
+   *
+   * @param prefix the prefix to mount the child table under
+   * @param child the table to mount
+   * @return the new table, or this table if it already holds every mounted route
+   * @throws IllegalArgumentException if the prefix holds a query or a wildcard other than a
+   *     trailing {@code *}
+   */
+  public RouteTable mount(String prefix, RouteTable child) {
+    String base = mountPrefix(prefix);
+    return with(
+        child.routes.keySet().stream()
+            .map(routeString -> join(base, routeString))
+            .toArray(String[]::new));
+  }
+
+  /**
+   * Mounts a child table under a prefix of the route table shared by every router of the
+   * application.
+   *
+   * @param prefix the prefix to mount the child table under
+   * @param child the table to mount
+   * @return the new shared route table
+   * @throws IllegalArgumentException if the prefix holds a query or a wildcard other than a
+   *     trailing {@code *}
+   * @see #mount(String, RouteTable)
+   */
+  public static RouteTable mountShared(String prefix, RouteTable child) {
+    return shared.updateAndGet(table -> table.mount(prefix, child));
+  }
+
+  /**
+   * Normalizes a mount prefix, removing leading and trailing slashes and a trailing wildcard.
+   *
+   * @param prefix the mount prefix
+   * @return the normalized prefix, empty for the root
+   * @throws IllegalArgumentException if the prefix holds a query or a wildcard other than a
+   *     trailing {@code *}
+   */
+  static String mountPrefix(String prefix) {
+    String base = NavigationCache.normalize(prefix);
+    if (base.equals("*")) {
+      base = "";
+    } else if (base.endsWith("/*")) {
+      base = NavigationCache.normalize(base.substring(0, base.length() - 1));
+    }
+
+    RoutePath path = new RoutePath(base);
+    for (int i = 0; i < path.size(); i++) {
+      if (path.segmentStartsWith(i, '*')) {
+        throw new IllegalArgumentException("Invalid mount prefix '" + prefix + "'");
+      }
+    }
+    if (base.indexOf('?') >= 0) {
+      throw new IllegalArgumentException("Invalid mount prefix '" + prefix + "'");
+    }
+    return base;
+  }
+
+  /**
+   * Joins a normalized mount prefix and a route string relative to it.
+   *
+   * @param prefix the normalized mount prefix
+   * @param routeString the relative route string
+   * @return the route string under the prefix
+   */
+  static String join(String prefix, String routeString) {
+    String relative = routeString.startsWith("/") ? routeString.substring(1) : routeString;
+    if (prefix.isEmpty()) {
+      return relative;
+    }
+    if (relative.isEmpty() || relative.startsWith("?")) {
+      return prefix + relative;
+    }
+    return prefix + "/" + relative;
+  }
+
+  /**
+   * Returns a table holding the routes of this table except the given route strings. The remaining
+   * routes are reused, not compiled again.
+   *
+   * @param routeStrings the route strings to remove
+   * @return the new table, or this table if it holds none of the route strings
+   */
+  public RouteTable without(Collection<String> routeStrings) {
+    if (routeStrings.stream().noneMatch(routes::containsKey)) {
+      return this;
+    }
+
+    Map<String, Route> remaining = new LinkedHashMap<>(routes);
+    remaining.keySet().removeAll(routeStrings);
+    return remaining.isEmpty() ? EMPTY : new RouteTable(remaining);
+  }
+
+  /**
+   * Checks whether the table holds the given route string.
+   *
+   * @param routeString the route string
+   * @return true if the route string is in the table, false otherwise
+   */
+  public boolean contains(String routeString) {
+    return routes.containsKey(routeString);
+  }
+
+  /**
+   * Returns the route strings of the table, in registration order.
+   *
+   * @return an unmodifiable set of route strings
+   */
+  public Set<String> getRouteStrings() {
+    return routes.keySet();
+  }
+
+  /**
+   * Returns the compiled route of a route string.
+   *
+   * @param routeString the route string
+   * @return the compiled route, or null if the route string is not in the table
+   */
+  public Route getRoute(String routeString) {
+    return routes.get(routeString);
+  }
+
+  /**
+   * Checks whether the table holds no route.
+   *
+   * @return true if the table is empty, false otherwise
+   */
+  public boolean isEmpty() {
+    return routes.isEmpty();
+  }
+
+  /**
+   * Finds every route of the table matching the given route string. Matches are ordered from the
+   * most to the least specific route: at every position, literal segments come before typed
+   * parameters, typed parameters before string parameters and parameters before wildcards.
+   *
+   * @param routeString the route string to resolve
+   * @return the matches, empty if no route matches
+   */
+  public List<RouteMatch> match(String routeString) {
+    return getTree().match(routeString);
+  }
+
+  /**
+   * Finds the most specific route of the table matching the given route string. Matching stops as
+   * soon as that route is found.
+   *
+   * @param routeString the route string to resolve
+   * @return the match of the most specific route, or null if no route matches
+   * @see #match(String)
+   */
+  public RouteMatch matchFirst(String routeString) {
+    List<RouteMatch> matches = getTree().match(routeString, route -> true, true);
+    return matches.isEmpty() ? null : matches.get(0);
+  }
+
+  /**
+   * Finds the routes of the table accepted by a filter and matching the given route string.
+   *
+   * @param routeString the route string to resolve
+   * @param filter the routes to consider
+   * @param firstOnly whether to stop at the most specific matching route
+   * @return the matches, empty if no route matches
+   */
+  List<RouteMatch> match(String routeString, Predicate<Route> filter, boolean firstOnly) {
+    return getTree().match(routeString, filter, firstOnly);
+  }
+
+  /**
+   * Analyzes the routes of the table for shadowed, ambiguous and unreachable routes, without
+   * matching any route string.
+   *
+   * @param firstMatchOnly whether routes are matched in first-match mode, in which case shadowed
+   *     routes are reported as unreachable
+   * @return the report, with the decision tree of the table
+   * @see SimpleRouter#analyzeRoutes()
+   */
+  public RouteReport analyze(boolean firstMatchOnly) {
+    return RouteAnalyzer.analyze(routes.values(), firstMatchOnly);
+  }
+
+  /**
+   * Returns the tree matching the routes of the table, building it on first use.
+   *
+   * @return the route tree
+   */
+  RouteTree getTree() {
+    RouteTree result = tree;
+    if (result == null) {
+      result = new RouteTree(routes.values());
+      tree = result;
+    }
+    return result;
+  }
+}
@@ -0,0 +1,271 @@
+package com.webforj.addons.services.simplerouter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * A segment-level radix tree holding every compiled {@link Route} known to a router. Templates
+ * sharing a prefix share the nodes of that prefix, so resolving a route string walks the tree once
+ * and visits only the branches compatible with the path, independently of how many routes are
+ * registered.
+ *
+ * <p>The tree is the single automaton the router matches against: no per-route regular expression
+ * is evaluated. A router builds it once from its route table and rebuilds it only when a new route
+ * is added.
+ *
+ * <p>Each node has three kinds of children: literal segments (compared case-insensitively),
+ * parameter segments (one child per distinct parameter type) and a wildcard consuming any number of
+ * segments, shared by {@code *} and named wildcards such as {@code *path}.
+ */
+final class RouteTree {
+
+  private final Node root = new Node();
+  private int depth;
+
+  /** Constructs an empty tree. */
+  RouteTree() {}
+
+  /**
+   * Constructs a tree holding the given routes.
+   *
+   * @param routes the compiled routes to insert
+   */
+  RouteTree(Collection<Route> routes) {
+    routes.forEach(this::insert);
+  }
+
+  /**
+   * Merges the given route into the tree.
+   *
+   * @param route the compiled route to insert
+   */
+  void insert(Route route) {
+    Node node = root;
+    RoutePath template = route.getTemplate();
+    for (int i = 0; i < template.size(); i++) {
+      if (route.isWildcard(i)) {
+        if (node.wildcard == null) {
+          node.wildcard = new Node();
+        }
+        node = node.wildcard;
+      } else if (route.segmentAt(i) != null) {
+        node = node.param(route.segmentAt(i));
+      } else {
+        node = node.literals.computeIfAbsent(template.segmentLowerCase(i), t -> new Node());
+      }
+    }
+    node.routes.add(route);
+    depth = Math.max(depth, template.size());
+  }
+
+  /**
+   * Finds every route matching the given route string. Parameters are converted once, at the node
+   * shared by all routes declaring a parameter of that type at that position.
+   *
+   * @param routeString the route string to resolve
+   * @return the matches ordered from the most to the least specific route, empty if none matches
+   */
+  List<RouteMatch> match(String routeString) {
+    return match(routeString, route -> true, false);
+  }
+
+  /**
+   * Finds the routes matching the given route string, ordered from the most to the least specific.
+   * At every position literal segments are preferred to typed parameters, typed parameters to
+   * string parameters and parameters to wildcards; routes of equal specificity keep their
+   * registration order.
+   *
+   * @param routeString the route string to resolve
+   * @param filter the routes to consider, others are skipped as if they were not registered
+   * @param firstOnly whether to stop at the most specific matching route
+   * @return the matches, empty if no route matches
+   */
+  List<RouteMatch> match(String routeString, Predicate<Route> filter, boolean firstOnly) {
+    Walk walk = new Walk(new RoutePath(routeString), depth, filter, firstOnly);
+    collect(root, 0, 0, walk);
+    return new ArrayList<>(walk.result.values());
+  }
+
+  /**
+   * Walks the subtree rooted at {@code node}, consuming path segments from {@code index} onwards
+   * and collecting a match for every route of every node reached once the path is exhausted.
+   * Children are visited from the most to the least specific.
+   *
+   * @param node the current node
+   * @param index the index of the next path segment to consume
+   * @param level the depth of {@code node}, which is the template position of its children
+   * @param walk the state of the walk
+   * @return true if the walk is complete and no other branch needs to be visited
+   */
+  private boolean collect(Node node, int index, int level, Walk walk) {
+    RoutePath path = walk.path;
+    if (index == path.size()) {
+      for (Route route : node.routes) {
+        if (walk.filter.test(route) && !walk.result.containsKey(route)) {
+          RouteMatch match = route.createMatch(path, walk.positions, walk.values);
+          if (match != null) {
+            walk.result.put(route, match);
+            if (walk.firstOnly) {
+              return true;
+            }
+          }
+        }
+      }
+    } else {
+      if (!node.literals.isEmpty()) {
+        Node literal = node.literals.get(path.segmentLowerCase(index));
+        if (literal != null && collect(literal, index + 1, level + 1, walk)) {
+          return true;
+        }
+      }
+
+      for (Param param : node.params) {
+        Object value = param.segment.parse(path.segment(index));
+        if (value != null) {
+          walk.positions[level] = index;
+          walk.values[level] = value;
+          if (collect(param.node, index + 1, level + 1, walk)) {
+            return true;
+          }
+        }
+      }
+    }
+
+    if (node.wildcard != null) {
+      for (int i = index; i <= path.size(); i++) {
+        // the capture of a named wildcard, read back by the routes reached
+        walk.positions[level] = index;
+        walk.values[level] = i;
+        if (collect(node.wildcard, i, level + 1, walk)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Ranks a parameter segment by the number of values it accepts, lower being narrower. Parameters
+   * of equal rank are tried in registration order.
+   *
+   * @param segment the parameter segment
+   * @return the rank of the segment
+   */
+  static int rank(RouteSegment segment) {
+    return switch (segment.getType()) {
+      case ENUM -> 0;
+      case REGEX -> 1;
+      case UUID, DATE -> 2;
+      case INT -> 3;
+      case LONG -> 4;
+      case NUM -> 5;
+      case BOOL, STR -> 6;
+    };
+  }
+
+  /**
+   * Describes the tree as an indented outline, one node per line, children in the order the walk
+   * tries them, followed by the routes ending at the node.
+   *
+   * @return the outline of the tree
+   */
+  String describe() {
+    StringBuilder out = new StringBuilder();
+    describe(root, "/", 0, out);
+    return out.toString();
+  }
+
+  /**
+   * Describes a subtree.
+   *
+   * @param node the root of the subtree
+   * @param label the label of the branch leading to the node
+   * @param depth the depth of the node
+   * @param out the outline being written
+   */
+  private static void describe(Node node, String label, int depth, StringBuilder out) {
+    out.append("  ".repeat(depth)).append(label);
+    for (int i = 0; i < node.routes.size(); i++) {
+      out.append(i == 0 ? " -> " : ", ").append(node.routes.get(i).getRoute());
+    }
+    out.append('\n');
+
+    for (Map.Entry<String, Node> literal : new TreeMap<>(node.literals).entrySet()) {
+      describe(literal.getValue(), literal.getKey(), depth + 1, out);
+    }
+    for (Param param : node.params) {
+      RouteSegment segment = param.segment;
+      String type =
+          segment.getType() == RouteSegment.SegmentType.ENUM
+                  || segment.getType() == RouteSegment.SegmentType.REGEX
+              ? segment.getTypeKey()
+              : segment.getType().name().toLowerCase(Locale.ROOT);
+      describe(param.node, ":" + type, depth + 1, out);
+    }
+    if (node.wildcard != null) {
+      describe(node.wildcard, "*", depth + 1, out);
+    }
+  }
+
+  /** A node of the tree. */
+  private static final class Node {
+    private final Map<String, Node> literals = new HashMap<>();
+    private final List<Param> params = new ArrayList<>();
+    private Node wildcard;
+    private final List<Route> routes = new ArrayList<>();
+
+    /**
+     * Returns the child reached through a parameter segment, creating it if needed. Parameters
+     * accepting the same values share a child, whatever their names.
+     *
+     * @param segment the parameter segment
+     * @return the child node
+     */
+    private Node param(RouteSegment segment) {
+      for (Param param : params) {
+        if (param.segment.getTypeKey().equals(segment.getTypeKey())) {
+          return param.node;
+        }
+      }
+      // keep parameters sorted from the narrowest to the widest type
+      Param param = new Param(segment, new Node());
+      int i = 0;
+      while (i < params.size() && rank(params.get(i).segment) <= rank(segment)) {
+        i++;
+      }
+      params.add(i, param);
+      return param.node;
+    }
+  }
+
+  /**
+   * A parameter child of a node. The segment is only used to convert values, which is the same for
+   * every route sharing the child.
+   */
+  private record Param(RouteSegment segment, Node node) {}
+
+  /** The state of a walk through the tree. */
+  private static final class Walk {
+    private final RoutePath path;
+    private final int[] positions;
+    private final Object[] values;
+    private final Predicate<Route> filter;
+    private final boolean firstOnly;
+    private final Map<Route, RouteMatch> result = new LinkedHashMap<>();
+
+    private Walk(RoutePath path, int depth, Predicate<Route> filter, boolean firstOnly) {
+      this.path = path;
+      this.positions = new int[depth];
+      this.values = new Object[depth];
+      this.filter = filter;
+      this.firstOnly = firstOnly;
+    }
+  }
+}
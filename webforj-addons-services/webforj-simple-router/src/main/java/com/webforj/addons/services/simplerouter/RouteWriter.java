@@ -0,0 +1,176 @@
+package com.webforj.addons.services.simplerouter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes route strings from a compiled {@link Route} template and parameter values, which is the
+ * reverse of matching. The template is split into parts once, when the writer is created; literal
+ * segments are encoded at that time, so writing a route string is a single pass over the parts
+ * appending to one {@link StringBuilder}.
+ *
+ * <p>Every value is checked against the type of its parameter, so a written route string always
+ * matches the route it was written from.
+ */
+final class RouteWriter {
+
+  /** The wildcard parameter name, whose value may span several segments. */
+  static final String WILDCARD = "*";
+
+  private final Route route;
+  private final Part[] parts;
+  private final Collection<RouteSegment> querySegments;
+  private final int literalLength;
+
+  /**
+   * Compiles the writer of a route.
+   *
+   * @param route the compiled route
+   */
+  RouteWriter(Route route) {
+    this.route = route;
+    this.querySegments = route.getQuerySegments();
+
+    RoutePath template = route.getTemplate();
+    List<Part> tmp = new ArrayList<>(template.size());
+    int length = 0;
+    for (int i = 0; i < template.size(); i++) {
+      if (route.isWildcard(i)) {
+        String name = template.rawSegment(i);
+        tmp.add(new Part(null, null, name.length() == 1 ? WILDCARD : name.substring(1)));
+      } else if (route.segmentAt(i) != null) {
+        tmp.add(new Part(null, route.segmentAt(i), null));
+      } else {
+        StringBuilder literal = new StringBuilder();
+        UrlCodec.encodePathSegment(literal, template.segmentString(i));
+        tmp.add(new Part(literal.toString(), null, null));
+        length += literal.length() + 1;
+      }
+    }
+    this.parts = tmp.toArray(new Part[0]);
+    this.literalLength = length;
+  }
+
+  /**
+   * Writes the route string for the given parameter values. Path parameters are required; declared
+   * query parameters are written when they have a value, once per element if the value is a
+   * collection. The {@code *} wildcard is written from the value of the {@code "*"} parameter and a
+   * named wildcard from the value of its name, split on {@code /}, and is left empty when there is
+   * none. A {@link WildcardPath} value is written from its segments, so a matched path is written
+   * back as it was matched.
+   *
+   * @param parameters the parameter values keyed by name, converted with {@link Object#toString()}
+   * @return the route string, without a leading slash
+   * @throws IllegalArgumentException if a path parameter is missing or a value does not satisfy the
+   *     type of its parameter
+   */
+  String write(Map<String, ?> parameters) {
+    StringBuilder out = new StringBuilder(literalLength + 16 * parts.length);
+
+    for (Part part : parts) {
+      if (part.literal != null) {
+        separate(out).append(part.literal);
+      } else if (part.segment != null) {
+        Object value = parameters.get(part.segment.getName());
+        if (value == null) {
+          throw new IllegalArgumentException(
+              "Missing value for parameter '"
+                  + part.segment.getName()
+                  + "' of route '"
+                  + route.getRoute()
+                  + "'");
+        }
+        UrlCodec.encodePathSegment(separate(out), check(part.segment, value));
+      } else if (parameters.get(part.wildcard) instanceof WildcardPath path) {
+        for (String segment : path.segments()) {
+          UrlCodec.encodePathSegment(separate(out), segment);
+        }
+      } else {
+        Object value = parameters.get(part.wildcard);
+        String tail = value == null ? "" : value.toString();
+        int start = 0;
+        for (int i = 0; i <= tail.length(); i++) {
+          if (i == tail.length() || tail.charAt(i) == '/') {
+            if (i > start) {
+              UrlCodec.encodePathSegment(separate(out), tail.subSequence(start, i));
+            }
+            start = i + 1;
+          }
+        }
+      }
+    }
+
+    char separator = '?';
+    for (RouteSegment segment : querySegments) {
+      Object value = parameters.get(segment.getName());
+      if (value instanceof Iterable<?> values) {
+        for (Object element : values) {
+          separator = appendQueryParameter(out, separator, segment, element);
+        }
+      } else if (value != null) {
+        separator = appendQueryParameter(out, separator, segment, value);
+      }
+    }
+
+    return out.toString();
+  }
+
+  /**
+   * Appends a query parameter to the route string being written.
+   *
+   * @param out the route string being written
+   * @param separator the character introducing the parameter
+   * @param segment the declared query parameter
+   * @param value the value of the parameter
+   * @return the character introducing the next parameter
+   */
+  private char appendQueryParameter(
+      StringBuilder out, char separator, RouteSegment segment, Object value) {
+    out.append(separator);
+    UrlCodec.encodeQueryComponent(out, segment.getName());
+    out.append('=');
+    UrlCodec.encodeQueryComponent(out, check(segment, value));
+    return '&';
+  }
+
+  /**
+   * Appends a segment separator unless the route string is still empty.
+   *
+   * @param out the route string being written
+   * @return the builder, for chaining
+   */
+  private static StringBuilder separate(StringBuilder out) {
+    return out.isEmpty() ? out : out.append('/');
+  }
+
+  /**
+   * Converts a value to a string and checks it against the type of its parameter.
+   *
+   * @param segment the parameter segment
+   * @param value the value of the parameter
+   * @return the value as a string
+   * @throws IllegalArgumentException if the value does not satisfy the parameter type
+   */
+  private String check(RouteSegment segment, Object value) {
+    String text = value.toString();
+    if ((segment.getPosition() >= 0 && text.isEmpty()) || segment.parse(text) == null) {
+      throw new IllegalArgumentException(
+          "Value '"
+              + text
+              + "' does not satisfy parameter '"
+              + segment.getName()
+              + "' of route '"
+              + route.getRoute()
+              + "'");
+    }
+    return text;
+  }
+
+  /**
+   * A part of the template: a literal segment, already encoded, a parameter segment, or a wildcard,
+   * written from the parameter named {@code wildcard}.
+   */
+  private record Part(String literal, RouteSegment segment, String wildcard) {}
+}
@@ -0,0 +1,73 @@
+package com.webforj.addons.services.simplerouter;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The JDK Flight Recorder events emitted by {@link SimpleRouter}. A navigation records one {@link
+ * Navigate} event spanning one {@link Match} event, unless its matches come from the navigation
+ * cache, and one {@link Dispatch} event per notified route, so a recording shows whether a slow
+ * navigation spent its time matching or in listeners. Events are disabled unless a recording
+ * enables them, in which case their cost is a few field writes.
+ */
+final class RouterEvents {
+
+  private RouterEvents() {}
+
+  /** A navigation, from matching to the last notified listener. */
+  @Name("com.webforj.simplerouter.Navigate")
+  @Label("Navigate")
+  @Category({"webforJ", "Simple Router"})
+  @Description("A navigation of a SimpleRouter, from matching to the last notified listener")
+  @StackTrace(false)
+  static final class Navigate extends Event {
+
+    @Label("Route String")
+    String routeString;
+
+    @Label("Dispatched Routes")
+    @Description("The number of routes whose listeners were notified")
+    int dispatched;
+  }
+
+  /** The resolution of a route string against the route tree. */
+  @Name("com.webforj.simplerouter.Match")
+  @Label("Match")
+  @Category({"webforJ", "Simple Router"})
+  @Description("The resolution of a route string against the route tree of a SimpleRouter")
+  @StackTrace(false)
+  static final class Match extends Event {
+
+    @Label("Route String")
+    String routeString;
+
+    @Label("Routes Evaluated")
+    @Description("The number of routes whose template the route string reached in the tree")
+    int evaluated;
+
+    @Label("Matches")
+    int matches;
+  }
+
+  /** The notification of the listeners of a matched route. */
+  @Name("com.webforj.simplerouter.Dispatch")
+  @Label("Dispatch")
+  @Category({"webforJ", "Simple Router"})
+  @Description("The notification of the listeners of a route matched by a SimpleRouter")
+  @StackTrace(false)
+  static final class Dispatch extends Event {
+
+    @Label("Route Template")
+    String routeTemplate;
+
+    @Label("Route String")
+    String routeString;
+
+    @Label("Listeners")
+    int listeners;
+  }
+}
@@ -0,0 +1,55 @@
+package com.webforj.addons.services.simplerouter;
+
+import java.util.List;
+
+/**
+ * A service notified of the matching and dispatching work of every {@link SimpleRouter}, to feed a
+ * metrics system. Implementations are looked up once with {@link java.util.ServiceLoader}, by
+ * listing their class in a {@code META-INF/services} file named after this interface, or set on a
+ * router with {@link SimpleRouter#setMetrics(RouterMetrics)}. {@link RouteCounters} is an in-memory
+ * implementation counting per route template.
+ *
+ * <p>Methods are invoked on the thread navigating, synchronously, and must return quickly. Every
+ * method does nothing by default.
+ */
+public interface RouterMetrics {
+
+  /** Metrics ignoring every notification; timings are not even measured. */
+  RouterMetrics NONE = new RouterMetrics() {};
+
+  /**
+   * Invoked after a route string was matched against the route tree. Navigations served from the
+   * navigation cache are not matched and not reported.
+   *
+   * @param routeString the route string
+   * @param evaluated the number of routes whose template the route string reached in the tree
+   * @param matches the matches, from the most to the least specific route
+   * @param nanos the time spent matching, in nanoseconds
+   */
+  default void matched(String routeString, int evaluated, List<RouteMatch> matches, long nanos) {}
+
+  /**
+   * Invoked after the listeners of a matched route were notified.
+   *
+   * @param match the match the listeners were notified of
+   * @param nanos the time spent in the listeners, in nanoseconds
+   */
+  default void dispatched(RouteMatch match, long nanos) {}
+
+  /**
+   * Invoked after a navigation completed.
+   *
+   * @param routeString the route string navigated to
+   * @param dispatched the number of routes whose listeners were notified
+   * @param nanos the time spent navigating, matching and dispatching included, in nanoseconds
+   */
+  default void navigated(String routeString, int dispatched, long nanos) {}
+
+  /**
+   * Invoked when a navigation deferred by {@link SimpleRouter#setNavigationCoalescing coalescing}
+   * is dropped in favor of a later one, before it was matched.
+   *
+   * @param routeString the route string of the dropped navigation
+   */
+  default void coalesced(String routeString) {}
+}
@@ -1,26 +1,74 @@
 package com.webforj.addons.services.simplerouter;
 
 import com.webforj.App;
+import com.webforj.Environment;
 import com.webforj.Page;
+import com.webforj.PageEventOptions;
 import com.webforj.Request;
 import com.webforj.addons.services.simplerouter.event.SimpleRouteMatchEvent;
 import com.webforj.dispatcher.EventDispatcher;
 import com.webforj.dispatcher.EventListener;
+import com.webforj.dispatcher.ListenerRegistration;
 import com.webforj.environment.ObjectTable;
-import java.util.HashMap;
+import com.webforj.event.page.PageEvent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 /**
  * SimpleRouter is a singleton class that manages URL routing within a web application. It allows
  * the registration of event listeners for specific routes and handles navigation by updating the
  * URL and dispatching route match events.
+ *
+ * <p>Routes are compiled once, in the application-wide {@link RouteTable#getShared() shared route
+ * table}, and matched through its single route tree; a router itself only holds its listener
+ * bindings, published as an immutable snapshot so that routes can be registered from any thread.
  */
 public class SimpleRouter {
 
-  private Map<String, EventDispatcher> eventMap = new HashMap<>();
+  private static final String FLUSH_EVENT = "webforj-simple-router-flush";
+  private static final ExecutorService ASYNC_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+  private static final RouterMetrics DEFAULT_METRICS =
+      ServiceLoader.load(RouterMetrics.class).findFirst().orElse(RouterMetrics.NONE);
+
+  private final AtomicReference<RouteRegistry> registry =
+      new AtomicReference<>(RouteRegistry.EMPTY);
+  private volatile NavigationCache navigationCache;
+  private RouteRegistry navigationCacheRegistry;
+  private RouteTable navigationCacheTable;
+  private volatile boolean firstMatchOnly;
+  private volatile ViewCache<?> viewCache;
+  private volatile RouterMetrics metrics = DEFAULT_METRICS;
 
   private String currentRoute = "";
   private String baseUrl;
+  private String encodedBaseUrl;
+  private HistoryMode historyMode = HistoryMode.REPLACE;
+  private int batchDepth;
+  private String pendingUrl;
+  private boolean pendingPush;
+  private String historyUrl;
+  private ListenerRegistration<PageEvent> popStateRegistration;
+  private Duration coalescingWindow;
+  private String coalescedRoute;
+  private boolean coalescedPush;
+  private int coalescedSequence;
+  private ListenerRegistration<PageEvent> flushRegistration;
+  private Navigation navigation;
+  private int navigationCount;
 
   /**
    * Private constructor to prevent instantiation. Initializes the base URL and retrieves the
@@ -34,6 +82,10 @@ public class SimpleRouter {
     } else {
       this.baseUrl = url.substring(0, url.indexOf(name) + name.length());
     }
+
+    StringBuilder encoded = new StringBuilder(baseUrl.length() + 1);
+    UrlCodec.encodeUrl(encoded, baseUrl);
+    this.encodedBaseUrl = encoded.append('/').toString();
   }
 
   /**
@@ -54,32 +106,394 @@ public class SimpleRouter {
   }
 
   /**
-   * Updates the browser URL without reloading the page.
+   * Queues an update of the browser URL. Updates are collapsed to the last URL of the current batch
+   * and sent once the batch completes; an update pushes a history entry if any navigation of the
+   * batch asked for one.
    *
    * @param routeString the new route string to set in the URL
+   * @param mode how the navigation is recorded in the browser history
    */
-  private void updateUrl(String routeString) {
-    Page.getCurrent()
-        .executeJs(
-            "window.history.replaceState({},'title','" + baseUrl + "/" + routeString + "');");
+  private void updateUrl(String routeString, HistoryMode mode) {
+    pendingUrl = routeString;
+    pendingPush |= mode == HistoryMode.PUSH;
+    if (batchDepth == 0) {
+      flushHistory();
+    }
+  }
+
+  /**
+   * Sends the queued browser URL update, if any, as a single fire-and-forget script. Nothing is
+   * sent when the URL is the one already recorded. The script is written in one pass; the route
+   * string is percent-encoded on the way, which also keeps it from closing the script's string
+   * literal.
+   */
+  private void flushHistory() {
+    String routeString = pendingUrl;
+    HistoryMode mode = pendingPush ? HistoryMode.PUSH : HistoryMode.REPLACE;
+    pendingUrl = null;
+    pendingPush = false;
+    if (routeString == null || routeString.equals(historyUrl)) {
+      return;
+    }
+    historyUrl = routeString;
+    if (mode == HistoryMode.PUSH) {
+      listenToPopState();
+    }
+
+    StringBuilder script =
+        new StringBuilder(encodedBaseUrl.length() + routeString.length() + 48)
+            .append("window.history.")
+            .append(mode.getMethod())
+            .append("({},'title','")
+            .append(encodedBaseUrl);
+    UrlCodec.encodeUrl(script, routeString);
+    script.append("');");
+    Page.getCurrent().executeJsVoidAsync(script.toString());
+  }
+
+  /**
+   * Installs, once, a client listener routing browser back and forward navigation to this router.
+   * The listener sends the new URL with the {@code popstate} event, which is matched like any other
+   * route string; the application is not reloaded and the listeners of the matched routes can keep
+   * their views.
+   */
+  private void listenToPopState() {
+    if (popStateRegistration != null) {
+      return;
+    }
+    PageEventOptions options = new PageEventOptions();
+    options.addData("url", "window.location.href");
+    popStateRegistration =
+        Page.getCurrent().addEventListener("popstate", this::onPopState, options);
+  }
+
+  /**
+   * Navigates to the URL the browser moved to through its history. The URL is already in the
+   * address bar, so the navigation records nothing in the history.
+   *
+   * @param event the popstate event
+   */
+  private void onPopState(PageEvent event) {
+    Object url = event.getData().get("url");
+    String routeString = url == null ? null : routeStringOf(url.toString());
+    if (routeString != null) {
+      historyUrl = routeString;
+      // the browser moved on, so a coalesced navigation is stale
+      coalescedRoute = null;
+      coalescedPush = false;
+      navigateNow(routeString, HistoryMode.REPLACE);
+    }
+  }
+
+  /**
+   * Extracts the route string from an absolute URL of the application.
+   *
+   * @param url the absolute URL
+   * @return the route string, or null if the URL is outside of the application
+   */
+  private String routeStringOf(String url) {
+    int fragment = url.indexOf('#');
+    String tmp = fragment < 0 ? url : url.substring(0, fragment);
+    if (tmp.startsWith(this.baseUrl + "/")) {
+      return tmp.substring(this.baseUrl.length() + 1);
+    }
+    return null;
+  }
+
+  /**
+   * Runs an action as one navigation batch: however many navigations the action triggers, the
+   * browser URL is updated once, to the last route navigated to, when the action completes.
+   * Navigations triggered from route listeners are batched with the navigation that notified them
+   * in the same way. Batches can be nested; the update is sent when the outermost one completes.
+   *
+   * @param action the action to run
+   */
+  public void batch(Runnable action) {
+    batchDepth++;
+    try {
+      action.run();
+    } finally {
+      batchDepth--;
+      if (batchDepth == 0) {
+        flushHistory();
+      }
+    }
+  }
+
+  /**
+   * Sets how navigations are recorded in the browser history by default.
+   *
+   * <p>The first time an entry is pushed, the router starts listening to the browser's back and
+   * forward navigation and routes it like any other navigation, without reloading the application.
+   *
+   * @param historyMode {@link HistoryMode#REPLACE} to replace the current entry, the default, or
+   *     {@link HistoryMode#PUSH} to add an entry per navigation so back and forward work
+   */
+  public void setHistoryMode(HistoryMode historyMode) {
+    this.historyMode = Objects.requireNonNull(historyMode, "History mode cannot be null");
+  }
+
+  /**
+   * Returns how navigations are recorded in the browser history by default.
+   *
+   * @return the history mode
+   */
+  public HistoryMode getHistoryMode() {
+    return historyMode;
   }
 
   /**
-   * Registers an event listener for the specified route strings.
+   * Registers an event listener for the specified route strings. Route strings of the shared route
+   * table are only bound to the listener; other route strings are compiled into the shared table
+   * the first time any router registers them, and its route tree is rebuilt on the next navigation.
+   *
+   * <p>Registration publishes a new snapshot of the router's registry atomically, so routes can be
+   * registered from any thread, including while a navigation is in progress.
+   *
+   * <p>Removing a registration unbinds the listener from its route. A route left without listeners
+   * is removed from the router, which no longer matches it, on the next navigation reaching it or
+   * on {@link #pruneDeadRoutes()}. Its compiled route stays in the shared table, for the other
+   * routers.
    *
    * @param listener the event listener to be notified on route match
    * @param routeStrings the route strings to match against
+   * @return the registrations of the listener, one per route string, in the given order
    */
-  public void onRouteMatch(EventListener<SimpleRouteMatchEvent> listener, String... routeStrings) {
+  public List<ListenerRegistration<SimpleRouteMatchEvent>> onRouteMatch(
+      EventListener<SimpleRouteMatchEvent> listener, String... routeStrings) {
+    RouteTable.registerShared(routeStrings);
+    List<ListenerRegistration<SimpleRouteMatchEvent>> registrations =
+        new ArrayList<>(routeStrings.length);
     for (String routeString : routeStrings) {
-      EventDispatcher dispatcher;
-      if (eventMap.containsKey(routeString)) {
-        dispatcher = eventMap.get(routeString);
-      } else {
-        dispatcher = new EventDispatcher();
-        eventMap.put(routeString, dispatcher);
+      while (true) {
+        EventDispatcher dispatcher =
+            update(r -> r.withRoute(routeString)).getDispatcher(routeString);
+        ListenerRegistration<SimpleRouteMatchEvent> registration =
+            dispatcher.addListener(SimpleRouteMatchEvent.class, listener);
+        if (registry.get().getDispatcher(routeString) == dispatcher) {
+          registrations.add(registration);
+          break;
+        }
+        // the route was pruned concurrently, before the listener was added
+        registration.remove();
+      }
+    }
+    return registrations;
+  }
+
+  /**
+   * Registers a listener per route string, publishing every route in a single snapshot of the
+   * router's registry. Registering many routes at once, for instance the routes generated from
+   * {@link com.webforj.addons.services.simplerouter.annotation.SimpleRoute} annotations, copies the
+   * registry once instead of once per route.
+   *
+   * @param listeners the event listeners keyed by the route string they are notified for
+   * @return the registrations of the listeners, in the iteration order of the map
+   * @see #onRouteMatch(EventListener, String...)
+   */
+  public List<ListenerRegistration<SimpleRouteMatchEvent>> onRouteMatch(
+      Map<String, ? extends EventListener<SimpleRouteMatchEvent>> listeners) {
+    RouteTable.registerShared(listeners.keySet().toArray(new String[0]));
+    update(r -> r.withRoutes(listeners.keySet()));
+    List<ListenerRegistration<SimpleRouteMatchEvent>> registrations =
+        new ArrayList<>(listeners.size());
+    listeners.forEach(
+        (routeString, listener) -> registrations.addAll(onRouteMatch(listener, routeString)));
+    return registrations;
+  }
+
+  /**
+   * Returns a view of this router mounted under a prefix, for instance {@code admin/*}, through
+   * which a feature module registers and navigates to routes relative to the prefix.
+   *
+   * @param prefix the prefix to mount under
+   * @return the mounted view
+   * @throws IllegalArgumentException if the prefix holds a query or a wildcard other than a
+   *     trailing {@code *}
+   * @see RouteTable#mount(String, RouteTable)
+   */
+  public MountedRouter mount(String prefix) {
+    return new MountedRouter(this, RouteTable.mountPrefix(prefix));
+  }
+
+  /**
+   * Removes the routes that have no listener left, so that they are no longer matched.
+   *
+   * @return true if at least one route was removed, false otherwise
+   */
+  public boolean pruneDeadRoutes() {
+    RouteRegistry before = registry.get();
+    return update(r -> r.withoutRoutes(r.getDeadRoutes())) != before;
+  }
+
+  /**
+   * Publishes a new snapshot of the registry, retrying if another thread published one in the
+   * meantime, and clears the navigation cache if the registry changed.
+   *
+   * @param change the change to apply to the current snapshot, free of side effects
+   * @return the published snapshot
+   */
+  private RouteRegistry update(UnaryOperator<RouteRegistry> change) {
+    while (true) {
+      RouteRegistry current = registry.get();
+      RouteRegistry next = change.apply(current);
+      if (next == current) {
+        return current;
+      }
+      if (registry.compareAndSet(current, next)) {
+        invalidateNavigationCache();
+        return next;
+      }
+    }
+  }
+
+  /**
+   * Adds an interceptor running before the listeners of every route are notified.
+   *
+   * @param interceptor the interceptor to add
+   * @see #addInterceptor(String, RouteInterceptor)
+   */
+  public void addInterceptor(RouteInterceptor interceptor) {
+    addInterceptor("", interceptor);
+  }
+
+  /**
+   * Adds an interceptor running before the listeners of the routes under a prefix are notified. A
+   * route is under the prefix when its template starts with the segments of the prefix, compared
+   * case-insensitively: the prefix {@code admin} covers {@code admin} and {@code admin/users/:id},
+   * not {@code administration}. Interceptors run in the order they were added, whether global or
+   * not.
+   *
+   * <p>The interceptors of a route are resolved when the route or the interceptor is registered,
+   * not on navigation.
+   *
+   * @param prefix the route template prefix, empty for every route
+   * @param interceptor the interceptor to add
+   */
+  public void addInterceptor(String prefix, RouteInterceptor interceptor) {
+    update(r -> r.withInterceptor(prefix, interceptor));
+  }
+
+  /**
+   * Removes an interceptor from every prefix it was added to.
+   *
+   * @param interceptor the interceptor to remove
+   */
+  public void removeInterceptor(RouteInterceptor interceptor) {
+    update(r -> r.withoutInterceptor(interceptor));
+  }
+
+  /**
+   * Runs the interceptor chains of the matched routes, before any listener is notified.
+   *
+   * @param snapshot the registry the route string was resolved with
+   * @param matches the matched routes
+   * @return the matches whose chain let the navigation proceed, empty if an interceptor navigated
+   *     elsewhere
+   */
+  private List<RouteMatch> intercept(RouteRegistry snapshot, List<RouteMatch> matches) {
+    if (!snapshot.hasInterceptors()) {
+      return matches;
+    }
+
+    int count = navigationCount;
+    List<RouteMatch> allowed = new ArrayList<>(matches.size());
+    for (RouteMatch match : matches) {
+      boolean proceed = true;
+      for (RouteInterceptor interceptor : snapshot.getInterceptors(match.getRoute().getRoute())) {
+        proceed = interceptor.intercept(this, match);
+        if (!proceed || navigationCount != count) {
+          break;
+        }
+      }
+      if (navigationCount != count) {
+        // an interceptor redirected, which supersedes this navigation
+        return List.of();
+      }
+      if (proceed) {
+        allowed.add(match);
       }
-      dispatcher.addListener(SimpleRouteMatchEvent.class, listener);
+    }
+    return allowed;
+  }
+
+  /**
+   * Registers an asynchronous listener for the specified route strings. The stage returned by the
+   * listener is tracked with the navigation that notified it and cancelled once a newer navigation
+   * supersedes it; listeners of a navigation superseded before they are notified are skipped.
+   *
+   * @param listener the asynchronous listener to be notified on route match
+   * @param routeStrings the route strings to match against
+   * @return the registrations of the listener, one per route string, in the given order
+   * @see #supplyAsync(Supplier)
+   * @see #onRouteMatch(EventListener, String...)
+   */
+  public List<ListenerRegistration<SimpleRouteMatchEvent>> onRouteMatchAsync(
+      AsyncRouteListener listener, String... routeStrings) {
+    return onRouteMatch(
+        event -> {
+          if (event.isSuperseded()) {
+            return;
+          }
+          CompletionStage<?> work = listener.onRouteMatch(event);
+          if (work != null && event.getNavigation() != null) {
+            event.getNavigation().track(work.toCompletableFuture());
+          }
+        },
+        routeStrings);
+  }
+
+  /**
+   * Runs a task on a virtual thread, off the UI thread. When called while a navigation is in
+   * progress, typically from a route listener, the task is cancelled, and its thread interrupted,
+   * as soon as a newer navigation supersedes that one.
+   *
+   * <p>The returned future is completed back on the UI thread, through {@link
+   * Environment#runLater(Runnable)}, so dependent stages such as {@code thenAccept} may update
+   * components. Only the task itself runs off the UI thread and must not touch them.
+   *
+   * @param <T> the type of the task result
+   * @param task the task to run
+   * @return a future completed with the result of the task
+   */
+  public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    Future<?> execution =
+        ASYNC_EXECUTOR.submit(
+            () -> {
+              try {
+                T value = task.get();
+                completeOnUiThread(() -> result.complete(value));
+              } catch (Throwable e) {
+                completeOnUiThread(() -> result.completeExceptionally(e));
+              }
+            });
+    result.whenComplete(
+        (value, error) -> {
+          if (result.isCancelled()) {
+            execution.cancel(true);
+          }
+        });
+
+    Navigation current = navigation;
+    if (current != null) {
+      current.track(result);
+    }
+    return result;
+  }
+
+  /**
+   * Runs the completion of an asynchronous task on the UI thread of the environment the task was
+   * started from. Without an environment, for instance when the router is driven outside of a
+   * webforJ request, the completion runs on the calling thread.
+   *
+   * @param completion the completion to run
+   */
+  private static void completeOnUiThread(Runnable completion) {
+    try {
+      Environment.runLater(completion);
+    } catch (IllegalStateException e) {
+      completion.run();
     }
   }
 
@@ -94,46 +508,537 @@ public class SimpleRouter {
 
   /** Navigates to the current URL's corresponding route within the application. */
   public void navigate() {
-    String url = Request.getCurrent().getUrl();
-    if (url.startsWith(this.baseUrl + "/")) {
-      url = url.substring(this.baseUrl.length() + 1);
-      navigate(url);
+    String routeString = routeStringOf(Request.getCurrent().getUrl());
+    if (routeString != null) {
+      navigate(routeString);
     }
   }
 
   /**
    * Navigates to the specified route string. Matches the route string with registered routes and
-   * dispatches corresponding events.
+   * dispatches corresponding events, from the most to the least specific route. In {@link
+   * #setFirstMatchOnly(boolean) first-match mode} only the most specific route is dispatched.
+   *
+   * <p>The browser URL is updated asynchronously, without waiting for the client. Navigations
+   * triggered by the listeners are {@link #batch(Runnable) batched} with this one, so the URL is
+   * only updated once, to the last route string.
+   *
+   * <p>Before any listener is notified, the {@link #addInterceptor(String, RouteInterceptor)
+   * interceptors} of every matched route run; routes whose interceptors stop the navigation are not
+   * notified.
+   *
+   * <p>A navigation matching at least one route supersedes the previous one: work started by {@link
+   * #onRouteMatchAsync(AsyncRouteListener, String...) asynchronous listeners} for the previous
+   * navigation is cancelled.
+   *
+   * <p>When {@link #setNavigationCoalescing(Duration) coalescing} is enabled, the navigation is
+   * deferred and only the last route string navigated to within the window is matched and
+   * dispatched.
    *
    * @param routeString the route string to navigate to
    */
   public void navigate(String routeString) {
-    boolean done = false;
+    navigate(routeString, historyMode);
+  }
 
-    for (Map.Entry<String, EventDispatcher> entry : eventMap.entrySet()) {
-      String registeredRouteString = entry.getKey();
-      EventDispatcher dispatcher = entry.getValue();
-      Route r = new Route(registeredRouteString);
+  /**
+   * Navigates to the specified route string, recording the navigation in the browser history as
+   * requested rather than with the {@link #setHistoryMode(HistoryMode) default mode}.
+   *
+   * @param routeString the route string to navigate to
+   * @param mode how the navigation is recorded in the browser history
+   * @see #navigate(String)
+   */
+  public void navigate(String routeString, HistoryMode mode) {
+    Duration window = coalescingWindow;
+    if (window == null) {
+      navigateNow(routeString, mode);
+      return;
+    }
 
-      if (r.matches(routeString)) {
-        if (!done) {
-          currentRoute = routeString;
-          done = true;
-        }
-        dispatcher.dispatchEvent(new SimpleRouteMatchEvent(this, r));
+    if (coalescedRoute == null) {
+      scheduleFlush(window);
+    } else {
+      metrics.coalesced(coalescedRoute);
+    }
+    coalescedRoute = routeString;
+    coalescedPush |= mode == HistoryMode.PUSH;
+  }
+
+  /**
+   * Matches a route string and notifies the listeners of the matched routes right away.
+   *
+   * @param routeString the route string to navigate to
+   * @param mode how the navigation is recorded in the browser history
+   */
+  private void navigateNow(String routeString, HistoryMode mode) {
+    batch(
+        () -> {
+          RouterMetrics observer = metrics;
+          RouterEvents.Navigate event = new RouterEvents.Navigate();
+          event.begin();
+          long start = observer == RouterMetrics.NONE ? 0 : System.nanoTime();
+          RouteRegistry snapshot = registry.get();
+          List<RouteMatch> matches = resolve(snapshot, routeString);
+          if (!isLive(snapshot, matches)) {
+            // listeners were removed since the matches were cached: match again without them
+            pruneDeadRoutes();
+            snapshot = registry.get();
+            matches = resolve(snapshot, routeString);
+          }
+          Navigation current = null;
+          boolean dead = false;
+          int dispatched = 0;
+
+          for (RouteMatch match : intercept(snapshot, matches)) {
+            EventDispatcher dispatcher = snapshot.getDispatcher(match.getRoute().getRoute());
+            if (dispatcher.getCount(SimpleRouteMatchEvent.class) == 0) {
+              // removed by an interceptor or a listener of this navigation
+              dead = true;
+              continue;
+            }
+            if (current == null) {
+              currentRoute = routeString;
+              // queued before dispatching, so navigations made by listeners win
+              updateUrl(routeString, mode);
+              current = supersede(routeString);
+            }
+            dispatch(dispatcher, match, current, observer);
+            dispatched++;
+          }
+
+          if (dead) {
+            pruneDeadRoutes();
+          }
+
+          event.end();
+          if (event.shouldCommit()) {
+            event.routeString = routeString;
+            event.dispatched = dispatched;
+            event.commit();
+          }
+          if (observer != RouterMetrics.NONE) {
+            observer.navigated(routeString, dispatched, System.nanoTime() - start);
+          }
+        });
+  }
+
+  /**
+   * Checks whether every matched route still has a listener.
+   *
+   * @param snapshot the registry the route string was resolved with
+   * @param matches the matched routes
+   * @return true if no matched route lost its listeners, false otherwise
+   */
+  private static boolean isLive(RouteRegistry snapshot, List<RouteMatch> matches) {
+    for (RouteMatch match : matches) {
+      EventDispatcher dispatcher = snapshot.getDispatcher(match.getRoute().getRoute());
+      if (dispatcher.getCount(SimpleRouteMatchEvent.class) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Asks the client to send the flush event once the coalescing window has elapsed. The client
+   * processes the request after the response to the current server event, so even a zero window
+   * spans the whole event cycle. The sequence number sent back tells the flush of the pending
+   * navigation from the late flush of a navigation already run by {@link #flushNavigation()}.
+   *
+   * @param window the coalescing window
+   */
+  private void scheduleFlush(Duration window) {
+    if (flushRegistration == null) {
+      PageEventOptions options = new PageEventOptions();
+      options.addData("sequence", "event.detail");
+      flushRegistration =
+          Page.getCurrent()
+              .addEventListener(
+                  FLUSH_EVENT,
+                  event -> {
+                    Object sequence = event.getData().get("sequence");
+                    if (String.valueOf(coalescedSequence).equals(String.valueOf(sequence))) {
+                      flushNavigation();
+                    }
+                  },
+                  options);
+    }
+
+    coalescedSequence++;
+    Page.getCurrent()
+        .executeJsVoidAsync(
+            "setTimeout(function(){window.dispatchEvent(new CustomEvent('"
+                + FLUSH_EVENT
+                + "',{detail:'"
+                + coalescedSequence
+                + "'}));},"
+                + window.toMillis()
+                + ");");
+  }
+
+  /**
+   * Runs the navigation deferred by {@link #setNavigationCoalescing(Duration) coalescing}, if any,
+   * without waiting for the end of the window. The navigation goes to the last route string
+   * navigated to, and pushes a history entry if any of the coalesced navigations asked for one.
+   */
+  public void flushNavigation() {
+    String routeString = coalescedRoute;
+    if (routeString == null) {
+      return;
+    }
+    HistoryMode mode = coalescedPush ? HistoryMode.PUSH : HistoryMode.REPLACE;
+    coalescedRoute = null;
+    coalescedPush = false;
+    navigateNow(routeString, mode);
+  }
+
+  /**
+   * Checks whether a navigation is deferred by {@link #setNavigationCoalescing(Duration)
+   * coalescing}.
+   *
+   * @return true if a navigation waits for the end of the coalescing window, false otherwise
+   */
+  public boolean hasPendingNavigation() {
+    return coalescedRoute != null;
+  }
+
+  /**
+   * Notifies the listeners of a matched route, recording the time they take.
+   *
+   * @param dispatcher the dispatcher of the route
+   * @param match the route match
+   * @param current the navigation the route matched for
+   * @param observer the metrics to notify
+   */
+  private void dispatch(
+      EventDispatcher dispatcher, RouteMatch match, Navigation current, RouterMetrics observer) {
+    RouterEvents.Dispatch event = new RouterEvents.Dispatch();
+    event.begin();
+    long start = observer == RouterMetrics.NONE ? 0 : System.nanoTime();
+
+    dispatcher.dispatchEvent(new SimpleRouteMatchEvent(this, match, current));
+
+    event.end();
+    if (event.shouldCommit()) {
+      event.routeTemplate = match.getRoute().getRoute();
+      event.routeString = match.getRouteString();
+      event.listeners = dispatcher.getCount(SimpleRouteMatchEvent.class);
+      event.commit();
+    }
+    if (observer != RouterMetrics.NONE) {
+      observer.dispatched(match, System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Navigates to the route string written from a route template and parameter values. The template
+   * is looked up in the route table, so registered routes reuse their compiled writer.
+   *
+   * @param routeTemplate the route template, for instance {@code users/:id:int}
+   * @param parameters the parameter values keyed by name
+   * @throws IllegalArgumentException if a path parameter is missing or a value does not satisfy the
+   *     type of its parameter
+   * @see Route#url(Map)
+   */
+  public void navigate(String routeTemplate, Map<String, ?> parameters) {
+    Route route = RouteTable.getShared().getRoute(routeTemplate);
+    navigate((route != null ? route : new Route(routeTemplate)).url(parameters));
+  }
+
+  /**
+   * Starts a navigation, superseding the one in progress and cancelling its pending work.
+   *
+   * @param routeString the route string navigated to
+   * @return the new navigation
+   */
+  private Navigation supersede(String routeString) {
+    Navigation previous = navigation;
+    Navigation current = new Navigation(routeString);
+    navigation = current;
+    navigationCount++;
+    if (previous != null) {
+      previous.supersede();
+    }
+    return current;
+  }
+
+  /**
+   * Resolves a route string to the matches of the registered routes, going through the navigation
+   * cache when it is enabled. The cache is cleared when it holds results of another registry or
+   * route table.
+   *
+   * @param snapshot the registry to resolve with
+   * @param routeString the route string to resolve
+   * @return the matches, empty if no route matches
+   */
+  private List<RouteMatch> resolve(RouteRegistry snapshot, String routeString) {
+    RouteTable table = RouteTable.getShared();
+    NavigationCache cache = navigationCache;
+    if (cache == null) {
+      return match(snapshot, table, routeString);
+    }
+
+    if (navigationCacheRegistry != snapshot || navigationCacheTable != table) {
+      cache.clear();
+      navigationCacheRegistry = snapshot;
+      navigationCacheTable = table;
+    }
+
+    String key = NavigationCache.normalize(routeString);
+    List<RouteMatch> matches = cache.get(key);
+    if (matches == null) {
+      matches = match(snapshot, table, routeString);
+      cache.put(key, matches);
+    }
+    return matches;
+  }
+
+  /**
+   * Matches a route string against the routes of a table this router has listeners for. Routes left
+   * without listeners are skipped, so that in first-match mode the best live route is found, and
+   * are pruned once the match is done.
+   *
+   * @param snapshot the registry holding the listeners
+   * @param table the route table
+   * @param routeString the route string to match
+   * @return the matches, empty if no route matches
+   */
+  private List<RouteMatch> match(RouteRegistry snapshot, RouteTable table, String routeString) {
+    RouterMetrics observer = metrics;
+    RouterEvents.Match event = new RouterEvents.Match();
+    boolean measured = observer != RouterMetrics.NONE || event.isEnabled();
+    int[] evaluated = new int[1];
+    boolean[] dead = new boolean[1];
+    Predicate<Route> live =
+        r -> {
+          evaluated[0]++;
+          // shared routes this router never registered are skipped
+          EventDispatcher dispatcher = snapshot.getDispatcher(r.getRoute());
+          if (dispatcher == null) {
+            return false;
+          }
+          if (dispatcher.getCount(SimpleRouteMatchEvent.class) == 0) {
+            dead[0] = true;
+            return false;
+          }
+          return true;
+        };
+
+    event.begin();
+    long start = measured ? System.nanoTime() : 0;
+    List<RouteMatch> matches = table.match(routeString, live, firstMatchOnly);
+    if (measured) {
+      long nanos = System.nanoTime() - start;
+      event.end();
+      if (event.shouldCommit()) {
+        event.routeString = routeString;
+        event.evaluated = evaluated[0];
+        event.matches = matches.size();
+        event.commit();
       }
+      observer.matched(routeString, evaluated[0], matches, nanos);
     }
 
-    if (done) {
-      updateUrl(currentRoute);
+    if (dead[0]) {
+      pruneDeadRoutes();
+    }
+    return matches;
+  }
+
+  /**
+   * Enables navigation coalescing. Navigating then only records the route string; once the window
+   * has elapsed since the first of them, the last route string recorded is matched and dispatched,
+   * once, so listeners never see the intermediate route strings. A screen keeping the URL in sync
+   * with its state on every change, such as search filters, is then matched and dispatched at most
+   * once per window.
+   *
+   * <p>With a zero window, the navigations of one server event cycle are coalesced: the last route
+   * string is navigated to once the client has processed the response to the current event. The
+   * window is measured on the client. Browser back and forward navigation is never deferred and
+   * drops the pending navigation; {@link #flushNavigation()} runs it right away.
+   *
+   * @param window the coalescing window, {@link Duration#ZERO} to coalesce within one event cycle,
+   *     or null to navigate right away, the default
+   * @throws IllegalArgumentException if the window is negative
+   */
+  public void setNavigationCoalescing(Duration window) {
+    if (window != null && window.isNegative()) {
+      throw new IllegalArgumentException("Coalescing window cannot be negative");
+    }
+    coalescingWindow = window;
+    if (window == null) {
+      flushNavigation();
     }
   }
 
-  /** Clears all registered event listeners from all routes. */
+  /**
+   * Returns the window within which navigations are coalesced.
+   *
+   * @return the coalescing window, or null if navigations run right away
+   */
+  public Duration getNavigationCoalescing() {
+    return coalescingWindow;
+  }
+
+  /**
+   * Analyzes the routes this router has listeners for, in its current {@link
+   * #setFirstMatchOnly(boolean) matching mode}, and reports the routes shadowed by another, those
+   * notified before or after an overlapping route depending on their registration order only, and
+   * those never notified. Routes of the shared route table without a listener of this router are
+   * left out.
+   *
+   * <pre>{@code
+   * router.analyzeRoutes().validate();
+   * }</pre>
+   *
+   * @return the report, with the decision tree of the routes
+   */
+  public RouteReport analyzeRoutes() {
+    RouteRegistry snapshot = registry.get();
+    RouteTable table = RouteTable.getShared();
+    List<Route> routes = new ArrayList<>();
+    for (String routeString : table.getRouteStrings()) {
+      if (snapshot.contains(routeString)) {
+        routes.add(table.getRoute(routeString));
+      }
+    }
+    return RouteAnalyzer.analyze(routes, firstMatchOnly);
+  }
+
+  /**
+   * Sets whether navigation stops at the most specific matching route. Routes are ranked segment by
+   * segment: literal segments before typed parameters, typed parameters before string parameters,
+   * and parameters before wildcards. When enabled, only the listeners of the best route are
+   * notified and no other route is evaluated once it is found.
+   *
+   * @param firstMatchOnly true to dispatch the most specific route only, false to dispatch every
+   *     matching route
+   */
+  public void setFirstMatchOnly(boolean firstMatchOnly) {
+    if (this.firstMatchOnly != firstMatchOnly) {
+      this.firstMatchOnly = firstMatchOnly;
+      invalidateNavigationCache();
+    }
+  }
+
+  /**
+   * Returns whether navigation stops at the most specific matching route.
+   *
+   * @return true if only the most specific route is dispatched, false otherwise
+   */
+  public boolean isFirstMatchOnly() {
+    return firstMatchOnly;
+  }
+
+  /**
+   * Enables a bounded, least recently used cache of navigation results. On a hit, {@link
+   * #navigate(String)} dispatches the cached matches without matching the route string again. The
+   * cache is cleared whenever the route table or the listeners change.
+   *
+   * @param maxSize the maximum number of route strings to cache, or 0 to disable the cache
+   * @throws IllegalArgumentException if the size is negative
+   */
+  public void setNavigationCacheSize(int maxSize) {
+    if (maxSize < 0) {
+      throw new IllegalArgumentException("Navigation cache size cannot be negative");
+    }
+    navigationCache = maxSize == 0 ? null : new NavigationCache(maxSize);
+  }
+
+  /**
+   * Returns the maximum number of route strings kept by the navigation cache.
+   *
+   * @return the navigation cache size, 0 when the cache is disabled
+   */
+  public int getNavigationCacheSize() {
+    NavigationCache cache = navigationCache;
+    return cache == null ? 0 : cache.getMaxSize();
+  }
+
+  /**
+   * Returns the number of navigations served from the navigation cache since it was enabled.
+   *
+   * @return the number of cache hits
+   */
+  public long getNavigationCacheHits() {
+    NavigationCache cache = navigationCache;
+    return cache == null ? 0 : cache.getHits();
+  }
+
+  /**
+   * Returns the number of navigations that missed the navigation cache since it was enabled.
+   *
+   * @return the number of cache misses
+   */
+  public long getNavigationCacheMisses() {
+    NavigationCache cache = navigationCache;
+    return cache == null ? 0 : cache.getMisses();
+  }
+
+  /**
+   * Sets the cache keeping the views built by route listeners. The router does not fill the cache
+   * itself: listeners get their view from it, and the router clears it when every listener is
+   * removed.
+   *
+   * @param viewCache the view cache, or null to disable it
+   * @see ViewCache
+   */
+  public void setViewCache(ViewCache<?> viewCache) {
+    this.viewCache = viewCache;
+  }
+
+  /**
+   * Returns the cache keeping the views built by route listeners.
+   *
+   * @return the view cache, or null if it is disabled
+   */
+  public ViewCache<?> getViewCache() {
+    return viewCache;
+  }
+
+  /**
+   * Sets the metrics notified of the matching and dispatching work of this router. Routers use the
+   * implementation found with {@link java.util.ServiceLoader} by default, if any.
+   *
+   * @param metrics the metrics, or {@link RouterMetrics#NONE} to disable them
+   */
+  public void setMetrics(RouterMetrics metrics) {
+    this.metrics = Objects.requireNonNull(metrics, "Metrics cannot be null");
+  }
+
+  /**
+   * Returns the metrics notified of the matching and dispatching work of this router.
+   *
+   * @return the metrics, {@link RouterMetrics#NONE} when disabled
+   */
+  public RouterMetrics getMetrics() {
+    return metrics;
+  }
+
+  /** Drops every cached navigation result after a change to the route table. */
+  private void invalidateNavigationCache() {
+    NavigationCache cache = navigationCache;
+    if (cache != null) {
+      cache.clear();
+    }
+  }
+
+  /**
+   * Clears all registered event listeners from all routes. The routes are removed as well, so they
+   * are no longer matched.
+   */
   public void clearAllListeners() {
-    if (eventMap.isEmpty()) {
+    Collection<EventDispatcher> dispatchers = registry.get().getDispatchers();
+    if (dispatchers.isEmpty()) {
       return;
     }
-    eventMap.values().forEach(e -> e.removeAllListeners());
+    dispatchers.forEach(e -> e.removeAllListeners());
+    pruneDeadRoutes();
+    invalidateNavigationCache();
+    ViewCache<?> views = viewCache;
+    if (views != null) {
+      views.clear();
+    }
   }
 }
@@ -0,0 +1,201 @@
+package com.webforj.addons.services.simplerouter;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Percent-encoding and decoding of route string components. Encoding appends to a caller-supplied
+ * {@link StringBuilder}, so a whole URL is written in one pass without intermediate strings.
+ * Decoding never throws: malformed escape sequences are kept as they are, so a hand-typed URL
+ * cannot make navigation fail.
+ *
+ * <p>Single quotes and backslashes are always encoded, so encoded text can be embedded in a
+ * single-quoted JavaScript string as it is.
+ */
+final class UrlCodec {
+
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+  private static final boolean[] PATH_SEGMENT = allowed("!$&()*+,;=:@");
+  private static final boolean[] QUERY_COMPONENT = allowed("!$()*,;:@/?");
+  private static final boolean[] URL = allowed("!$&()*+,;=:@/?#[]%");
+
+  private UrlCodec() {}
+
+  /**
+   * Builds the table of ASCII characters written as they are: unreserved characters and the given
+   * extra characters.
+   *
+   * @param extra the characters allowed on top of the unreserved ones
+   * @return the table, indexed by character
+   */
+  private static boolean[] allowed(String extra) {
+    boolean[] table = new boolean[128];
+    for (char c = 'a'; c <= 'z'; c++) {
+      table[c] = true;
+      table[Character.toUpperCase(c)] = true;
+    }
+    for (char c = '0'; c <= '9'; c++) {
+      table[c] = true;
+    }
+    for (char c : ("-._~" + extra).toCharArray()) {
+      table[c] = true;
+    }
+    return table;
+  }
+
+  /**
+   * Appends a value encoded as a single path segment: {@code /}, {@code ?} and {@code #} are
+   * escaped.
+   *
+   * @param out the builder to append to
+   * @param value the value to encode
+   */
+  static void encodePathSegment(StringBuilder out, CharSequence value) {
+    encode(out, value, PATH_SEGMENT, false);
+  }
+
+  /**
+   * Appends a value encoded as a query string name or value: {@code &}, {@code =}, {@code +} and
+   * {@code #} are escaped.
+   *
+   * @param out the builder to append to
+   * @param value the value to encode
+   */
+  static void encodeQueryComponent(StringBuilder out, CharSequence value) {
+    encode(out, value, QUERY_COMPONENT, false);
+  }
+
+  /**
+   * Appends a URL, or part of one, escaping only the characters a URL cannot hold. Separators and
+   * valid escape sequences are kept, so encoding an already encoded URL leaves it unchanged.
+   *
+   * @param out the builder to append to
+   * @param value the URL to encode
+   */
+  static void encodeUrl(StringBuilder out, CharSequence value) {
+    encode(out, value, URL, true);
+  }
+
+  /**
+   * Appends a value, percent-encoding as UTF-8 every character that is not allowed.
+   *
+   * @param out the builder to append to
+   * @param value the value to encode
+   * @param allowed the ASCII characters written as they are
+   * @param keepEscapes whether valid escape sequences are kept rather than escaped again
+   */
+  private static void encode(
+      StringBuilder out, CharSequence value, boolean[] allowed, boolean keepEscapes) {
+    int length = value.length();
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c < 128 && allowed[c] && (c != '%' || keepEscapes && isEscape(value, i, length))) {
+        out.append(c);
+      } else if (c < 0x80) {
+        appendByte(out, c);
+      } else if (c < 0x800) {
+        appendByte(out, 0xC0 | (c >> 6));
+        appendByte(out, 0x80 | (c & 0x3F));
+      } else if (Character.isHighSurrogate(c)
+          && i + 1 < length
+          && Character.isLowSurrogate(value.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(c, value.charAt(++i));
+        appendByte(out, 0xF0 | (codePoint >> 18));
+        appendByte(out, 0x80 | ((codePoint >> 12) & 0x3F));
+        appendByte(out, 0x80 | ((codePoint >> 6) & 0x3F));
+        appendByte(out, 0x80 | (codePoint & 0x3F));
+      } else {
+        // lone surrogates are written as the replacement character, as String.getBytes does
+        int codePoint = Character.isSurrogate(c) ? 0xFFFD : c;
+        appendByte(out, 0xE0 | (codePoint >> 12));
+        appendByte(out, 0x80 | ((codePoint >> 6) & 0x3F));
+        appendByte(out, 0x80 | (codePoint & 0x3F));
+      }
+    }
+  }
+
+  /**
+   * Appends the escape sequence of a byte.
+   *
+   * @param out the builder to append to
+   * @param b the byte to escape
+   */
+  private static void appendByte(StringBuilder out, int b) {
+    out.append('%').append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+  }
+
+  /**
+   * Decodes a range of a route string. Escape sequences are decoded as UTF-8 bytes; a range without
+   * any escape is returned as a plain substring.
+   *
+   * @param value the text to decode
+   * @param start the offset of the first character to decode
+   * @param end the offset following the last character to decode
+   * @param plusAsSpace whether {@code +} stands for a space, as in query strings
+   * @return the decoded text
+   */
+  static String decode(CharSequence value, int start, int end, boolean plusAsSpace) {
+    int i = start;
+    while (i < end && value.charAt(i) != '%' && !(plusAsSpace && value.charAt(i) == '+')) {
+      i++;
+    }
+    if (i == end) {
+      return value.subSequence(start, end).toString();
+    }
+
+    StringBuilder result = new StringBuilder(end - start);
+    result.append(value, start, i);
+    byte[] bytes = null;
+    while (i < end) {
+      char c = value.charAt(i);
+      if (c == '%' && isEscape(value, i, end)) {
+        // collect the run of escaped bytes so that multi-byte characters decode as a whole
+        if (bytes == null) {
+          bytes = new byte[(end - i) / 3];
+        }
+        int count = 0;
+        while (i < end && value.charAt(i) == '%' && isEscape(value, i, end)) {
+          bytes[count++] = (byte) ((hex(value.charAt(i + 1)) << 4) | hex(value.charAt(i + 2)));
+          i += 3;
+        }
+        result.append(new String(bytes, 0, count, StandardCharsets.UTF_8));
+      } else {
+        result.append(plusAsSpace && c == '+' ? ' ' : c);
+        i++;
+      }
+    }
+    return result.toString();
+  }
+
+  /**
+   * Checks whether a {@code %} starts a valid escape sequence.
+   *
+   * @param value the text being decoded
+   * @param index the offset of the {@code %}
+   * @param end the offset following the last character to decode
+   * @return true if two hexadecimal digits follow, false otherwise
+   */
+  private static boolean isEscape(CharSequence value, int index, int end) {
+    return index + 2 < end
+        && hex(value.charAt(index + 1)) >= 0
+        && hex(value.charAt(index + 2)) >= 0;
+  }
+
+  /**
+   * Returns the value of a hexadecimal digit.
+   *
+   * @param c the digit
+   * @return the value of the digit, or -1 if the character is not a hexadecimal digit
+   */
+  private static int hex(char c) {
+    if (c >= '0' && c <= '9') {
+      return c - '0';
+    }
+    if (c >= 'a' && c <= 'f') {
+      return c - 'a' + 10;
+    }
+    if (c >= 'A' && c <= 'F') {
+      return c - 'A' + 10;
+    }
+    return -1;
+  }
+}
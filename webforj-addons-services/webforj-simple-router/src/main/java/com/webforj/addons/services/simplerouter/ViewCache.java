@@ -0,0 +1,257 @@
+package com.webforj.addons.services.simplerouter;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * The ViewCache class keeps the views built by route listeners, so that navigating back to a route
+ * reattaches its existing view instead of building it again. Views are keyed by route template and
+ * parameter values: {@code orders/:id:int} matched with {@code orders/1} and {@code orders/2} keeps
+ * two views. Routes ending with the {@code *} wildcard are keyed by their whole path as well, and
+ * query parameters the template does not declare are ignored.
+ *
+ * <p>The cache is bounded by a budget, either a number of views or a total weight computed by a
+ * weigher, and evicts the least recently shown views first. The view shown last is never evicted. A
+ * {@link Lifecycle} is told when views are detached, reattached and evicted.
+ *
+ * <pre>{@code
+ * ViewCache<Div> views = new ViewCache<>(10);
+ * router.setViewCache(views);
+ * router.onRouteMatch(
+ *     e -> outlet.setView(views.get(e.getMatch(), m -> new OrderView(m.getInt("id")))),
+ *     "orders/:id:int");
+ * }</pre>
+ *
+ * @param <V> the type of the views
+ */
+public class ViewCache<V> {
+
+  private final long maxWeight;
+  private final ToLongFunction<? super V> weigher;
+  private final Map<ViewKey, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private Lifecycle<? super V> lifecycle = new Lifecycle<>() {};
+  private long weight;
+  private V activeView;
+
+  /**
+   * Constructs a ViewCache keeping a maximum number of views.
+   *
+   * @param maxSize the maximum number of views kept
+   * @throws IllegalArgumentException if the size is not positive
+   */
+  public ViewCache(int maxSize) {
+    this(maxSize, view -> 1);
+  }
+
+  /**
+   * Constructs a ViewCache keeping views up to a total weight, for instance an estimate of their
+   * memory footprint.
+   *
+   * @param maxWeight the maximum total weight of the views kept
+   * @param weigher computes the weight of a view, once, when it is added
+   * @throws IllegalArgumentException if the maximum weight is not positive
+   */
+  public ViewCache(long maxWeight, ToLongFunction<? super V> weigher) {
+    if (maxWeight <= 0) {
+      throw new IllegalArgumentException("View cache budget must be positive");
+    }
+    this.maxWeight = maxWeight;
+    this.weigher = Objects.requireNonNull(weigher, "Weigher cannot be null");
+  }
+
+  /**
+   * Sets the lifecycle hooks notified when views are detached, reattached and evicted.
+   *
+   * @param lifecycle the lifecycle hooks
+   */
+  public synchronized void setLifecycle(Lifecycle<? super V> lifecycle) {
+    this.lifecycle = Objects.requireNonNull(lifecycle, "Lifecycle cannot be null");
+  }
+
+  /**
+   * Returns the view of a match, building it if it is not cached, and makes it the shown view. The
+   * view shown before is detached; a cached view is reattached.
+   *
+   * @param match the route match
+   * @param factory builds the view of the match when it is not cached
+   * @return the view of the match
+   */
+  public synchronized V get(RouteMatch match, Function<? super RouteMatch, ? extends V> factory) {
+    ViewKey key = ViewKey.of(match);
+    Entry<V> entry = entries.get(key);
+    if (entry != null) {
+      show(entry.view);
+      if (entry.view != activeView || entry.detached) {
+        entry.detached = false;
+        lifecycle.onReattach(entry.view);
+      }
+      activeView = entry.view;
+      return entry.view;
+    }
+
+    V view = factory.apply(match);
+    show(view);
+    activeView = view;
+    entry = new Entry<>(view, weigher.applyAsLong(view));
+    entries.put(key, entry);
+    weight += entry.weight;
+    evict();
+    return view;
+  }
+
+  /**
+   * Detaches the shown view if another view is about to be shown.
+   *
+   * @param view the view about to be shown
+   */
+  private void show(V view) {
+    if (activeView != null && activeView != view) {
+      for (Entry<V> entry : entries.values()) {
+        if (entry.view == activeView) {
+          entry.detached = true;
+        }
+      }
+      lifecycle.onDetach(activeView);
+    }
+  }
+
+  /** Evicts the least recently shown views until the cache fits its budget. */
+  private void evict() {
+    Iterator<Entry<V>> iterator = entries.values().iterator();
+    while (weight > maxWeight && iterator.hasNext()) {
+      Entry<V> entry = iterator.next();
+      if (entry.view != activeView) {
+        iterator.remove();
+        weight -= entry.weight;
+        lifecycle.onEvict(entry.view);
+      }
+    }
+  }
+
+  /**
+   * Removes the view of a match, so that it is built again next time.
+   *
+   * @param match the route match
+   */
+  public synchronized void invalidate(RouteMatch match) {
+    Entry<V> entry = entries.remove(ViewKey.of(match));
+    if (entry != null) {
+      remove(entry);
+    }
+  }
+
+  /** Removes every view. */
+  public synchronized void clear() {
+    entries.values().forEach(this::remove);
+    entries.clear();
+  }
+
+  /**
+   * Accounts for an entry removed from the cache and notifies its eviction.
+   *
+   * @param entry the removed entry
+   */
+  private void remove(Entry<V> entry) {
+    weight -= entry.weight;
+    if (entry.view == activeView) {
+      activeView = null;
+    }
+    lifecycle.onEvict(entry.view);
+  }
+
+  /**
+   * Returns the view shown last.
+   *
+   * @return the shown view, or null if no view is shown
+   */
+  public synchronized V getActiveView() {
+    return activeView;
+  }
+
+  /**
+   * Returns the number of views kept.
+   *
+   * @return the number of views
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Returns the total weight of the views kept.
+   *
+   * @return the total weight
+   */
+  public synchronized long getWeight() {
+    return weight;
+  }
+
+  /**
+   * Hooks notified of the lifecycle of cached views. Every method does nothing by default.
+   *
+   * @param <V> the type of the views
+   */
+  public interface Lifecycle<V> {
+
+    /**
+     * Invoked when a view stops being shown because another view is.
+     *
+     * @param view the detached view
+     */
+    default void onDetach(V view) {}
+
+    /**
+     * Invoked when a cached view is shown again.
+     *
+     * @param view the reattached view
+     */
+    default void onReattach(V view) {}
+
+    /**
+     * Invoked when a view leaves the cache. It will not be shown again and can be destroyed.
+     *
+     * @param view the evicted view
+     */
+    default void onEvict(V view) {}
+  }
+
+  /**
+   * The key of a view: its route template and parameter values.
+   *
+   * @param template the route template
+   * @param parameters the converted parameter values
+   * @param path the matched path when the template has a wildcard, null otherwise
+   */
+  private record ViewKey(String template, Map<String, Object> parameters, String path) {
+
+    private static ViewKey of(RouteMatch match) {
+      RoutePath template = match.getRoute().getTemplate();
+      String path = null;
+      for (int i = 0; i < template.size(); i++) {
+        if (template.segmentEquals(i, "*")) {
+          String routeString = match.getRouteString();
+          int query = routeString.indexOf('?');
+          path = query < 0 ? routeString : routeString.substring(0, query);
+          break;
+        }
+      }
+      return new ViewKey(match.getRoute().getRoute(), Map.copyOf(match.getParameters()), path);
+    }
+  }
+
+  /** A cached view. */
+  private static final class Entry<V> {
+    private final V view;
+    private final long weight;
+    private boolean detached;
+
+    private Entry(V view, long weight) {
+      this.view = view;
+      this.weight = weight;
+    }
+  }
+}
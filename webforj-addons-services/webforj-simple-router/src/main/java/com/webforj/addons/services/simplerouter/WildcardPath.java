@@ -0,0 +1,124 @@
+package com.webforj.addons.services.simplerouter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The part of a route string captured by a named wildcard, such as {@code *path} in {@code
+ * files/*path}: every segment from the wildcard position on, with the {@code /} between them. The
+ * capture is a view over the matched route string; nothing is copied while matching.
+ *
+ * <p>As a character sequence, the path is percent-decoded, lazily: the first read scans the
+ * captured range once and, when it holds no escape, keeps reading the route string in place. The
+ * undecoded capture is available through {@link #raw()}.
+ */
+public final class WildcardPath implements CharSequence {
+
+  private final String source;
+  private final int start;
+  private final int end;
+  private CharSequence decoded;
+
+  /**
+   * Constructs a WildcardPath over a range of a route string.
+   *
+   * @param source the matched route string
+   * @param start the offset of the first captured character
+   * @param end the offset following the last captured character
+   */
+  WildcardPath(String source, int start, int end) {
+    this.source = source;
+    this.start = start;
+    this.end = end;
+  }
+
+  /**
+   * Returns the captured path as it appears in the route string, without decoding it.
+   *
+   * @return a view over the undecoded capture
+   */
+  public CharSequence raw() {
+    return new RoutePath.Slice(source, start, end);
+  }
+
+  /**
+   * Returns the captured segments, each percent-decoded on its own, so that an encoded {@code /}
+   * ({@code %2F}) stays inside its segment. Empty segments are skipped.
+   *
+   * @return an unmodifiable list of decoded segments, empty if nothing was captured
+   */
+  public List<String> segments() {
+    List<String> result = new ArrayList<>();
+    int from = start;
+    for (int i = start; i <= end; i++) {
+      if (i == end || source.charAt(i) == '/') {
+        if (i > from) {
+          result.add(UrlCodec.decode(source, from, i, false));
+        }
+        from = i + 1;
+      }
+    }
+    return Collections.unmodifiableList(result);
+  }
+
+  /**
+   * Returns the decoded path, decoding it on first access. A capture holding no escape is returned
+   * as a view over the route string.
+   *
+   * @return the decoded path
+   */
+  private CharSequence decoded() {
+    CharSequence result = decoded;
+    if (result == null) {
+      int i = start;
+      while (i < end && source.charAt(i) != '%') {
+        i++;
+      }
+      result =
+          i == end
+              ? new RoutePath.Slice(source, start, end)
+              : UrlCodec.decode(source, start, end, false);
+      decoded = result;
+    }
+    return result;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return start == end;
+  }
+
+  @Override
+  public int length() {
+    return decoded().length();
+  }
+
+  @Override
+  public char charAt(int index) {
+    return decoded().charAt(index);
+  }
+
+  @Override
+  public CharSequence subSequence(int from, int to) {
+    return decoded().subSequence(from, to);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    return o instanceof WildcardPath other && toString().equals(other.toString());
+  }
+
+  @Override
+  public int hashCode() {
+    return toString().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return decoded().toString();
+  }
+}
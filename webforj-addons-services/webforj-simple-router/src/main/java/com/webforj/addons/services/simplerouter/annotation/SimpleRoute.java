@@ -0,0 +1,42 @@
+package com.webforj.addons.services.simplerouter.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a handler to route templates at build time. The annotation is read by the {@code
+ * webforj-simple-router-processor} annotation processor, which checks every template, reports
+ * conflicting and ambiguous routes as compile errors, and generates a {@code <Handler>Routes} class
+ * registering the handler without reflection.
+ *
+ * <p>On a method, the parameters of the method are bound by name to the parameters of the route,
+ * already converted to their declared type; parameters of type {@code SimpleRouteMatchEvent},
+ * {@code RouteMatch} and {@code QueryParameters} receive the event, the match and the query:
+ *
+ * <pre>{@code
+ * public class OrderView {
+ *   @SimpleRoute("orders/:id:int")
+ *   void show(int id) {}
+ * }
+ *
+ * OrderViewRoutes.register(SimpleRouter.getInstance(), new OrderView());
+ * }</pre>
+ *
+ * <p>On a class, the class must implement {@code EventListener<SimpleRouteMatchEvent>} and is
+ * notified for the given templates.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface SimpleRoute {
+
+  /**
+   * The route templates the handler is notified for.
+   *
+   * @return the route templates
+   */
+  String[] value();
+}
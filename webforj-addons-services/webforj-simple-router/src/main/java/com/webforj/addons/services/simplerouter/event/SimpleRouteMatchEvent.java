@@ -1,30 +1,96 @@
 package com.webforj.addons.services.simplerouter.event;
 
+import com.webforj.addons.services.simplerouter.Navigation;
 import com.webforj.addons.services.simplerouter.Route;
+import com.webforj.addons.services.simplerouter.RouteMatch;
 import java.util.EventObject;
 
 /** SimpleRouteMatchEvent is an event that indicates a route has been matched. */
 public class SimpleRouteMatchEvent extends EventObject {
 
-  private final Route route;
+  private final RouteMatch match;
+  private final Navigation navigation;
 
   /**
    * Constructs a prototypical Event.
    *
    * @param source the object on which the Event initially occurred
+   * @param route the matched route
    * @throws IllegalArgumentException if source is null
+   * @deprecated the event carries no parameter; use {@link #SimpleRouteMatchEvent(Object,
+   *     RouteMatch)} with the result of {@link Route#match(String)}
    */
+  @Deprecated
   public SimpleRouteMatchEvent(Object source, Route route) {
+    this(source, RouteMatch.of(route), null);
+  }
+
+  /**
+   * Constructs a prototypical Event.
+   *
+   * @param source the object on which the Event initially occurred
+   * @param match the result of matching the route, holding the parsed parameters
+   * @throws IllegalArgumentException if source is null
+   */
+  public SimpleRouteMatchEvent(Object source, RouteMatch match) {
+    this(source, match, null);
+  }
+
+  /**
+   * Constructs a prototypical Event.
+   *
+   * @param source the object on which the Event initially occurred
+   * @param match the result of matching the route, holding the parsed parameters
+   * @param navigation the navigation the route matched for, or null if it is not tracked
+   * @throws IllegalArgumentException if source is null
+   */
+  public SimpleRouteMatchEvent(Object source, RouteMatch match, Navigation navigation) {
     super(source);
-    this.route = route;
+    this.match = match;
+    this.navigation = navigation;
   }
 
+  /**
+   * Returns the matched route.
+   *
+   * @return the matched route
+   */
   public Route getRoute() {
-    return route;
+    return match.getRoute();
+  }
+
+  /**
+   * Returns the match result, holding every route parameter already converted to its declared type.
+   * Listeners should read parameters from the match rather than from the route, which would parse
+   * the route string again.
+   *
+   * @return the match result
+   */
+  public RouteMatch getMatch() {
+    return match;
+  }
+
+  /**
+   * Returns the navigation the route matched for.
+   *
+   * @return the navigation, or null if it is not tracked
+   */
+  public Navigation getNavigation() {
+    return navigation;
+  }
+
+  /**
+   * Checks whether a newer navigation superseded the one the route matched for. Listeners finishing
+   * work asynchronously should discard their result when it returns true.
+   *
+   * @return true if the navigation was superseded, false otherwise
+   */
+  public boolean isSuperseded() {
+    return navigation != null && navigation.isSuperseded();
   }
 
   @Override
   public String toString() {
-    return "SimpleRouteMatchEvent{" + "route=" + route.getRoute() + '}';
+    return "SimpleRouteMatchEvent{" + "route=" + match.getRoute().getRoute() + '}';
   }
 }
@@ -0,0 +1,36 @@
+package com.webforj.addons.services.simplerouter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.webforj.PendingResult;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AsyncRouteListenerTest {
+
+  @Test
+  @DisplayName("Complete the future with the pending result")
+  void completeWithResult() {
+    CompletableFuture<String> source = new CompletableFuture<>();
+    CompletableFuture<String> future = AsyncRouteListener.toFuture(new PendingResult<>(source));
+
+    assertFalse(future.isDone());
+    source.complete("done");
+    assertEquals("done", future.join());
+  }
+
+  @Test
+  @DisplayName("Fail the future when the pending result fails")
+  void failWithResult() {
+    CompletableFuture<String> source = new CompletableFuture<>();
+    CompletableFuture<String> future = AsyncRouteListener.toFuture(new PendingResult<>(source));
+    IllegalStateException failure = new IllegalStateException("client error");
+
+    source.completeExceptionally(failure);
+    assertTrue(future.isCompletedExceptionally());
+    ExecutionException error = assertThrows(ExecutionException.class, future::get);
+    assertSame(failure, error.getCause());
+  }
+}
@@ -0,0 +1,46 @@
+package com.webforj.addons.services.simplerouter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NavigationCacheTest {
+
+  @Test
+  @DisplayName("Count hits and misses")
+  void countHitsAndMisses() {
+    NavigationCache cache = new NavigationCache(2);
+
+    assertNull(cache.get("a"));
+    cache.put("a", List.of());
+    assertNotNull(cache.get("a"));
+
+    assertEquals(1, cache.getHits());
+    assertEquals(1, cache.getMisses());
+  }
+
+  @Test
+  @DisplayName("Evict the least recently used entry")
+  void evictLeastRecentlyUsed() {
+    NavigationCache cache = new NavigationCache(2);
+    cache.put("a", List.of());
+    cache.put("b", List.of());
+    cache.get("a");
+    cache.put("c", List.of());
+
+    assertEquals(2, cache.size());
+    assertNotNull(cache.get("a"));
+    assertNull(cache.get("b"));
+    assertNotNull(cache.get("c"));
+  }
+
+  @Test
+  @DisplayName("Normalize leading and trailing slashes")
+  void normalize() {
+    assertEquals("users/1", NavigationCache.normalize("/users/1/"));
+    assertEquals("", NavigationCache.normalize("///"));
+    assertEquals("users?next=/home/", NavigationCache.normalize("/users/?next=/home/"));
+  }
+}
@@ -0,0 +1,51 @@
+package com.webforj.addons.services.simplerouter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QueryParametersTest {
+
+  @Test
+  @DisplayName("Keep every value of repeated parameters")
+  void keepRepeatedValues() {
+    QueryParameters query = QueryParameters.of("?tag=a&tag=b&page=3");
+
+    assertEquals(List.of("a", "b"), query.getAll("tag"));
+    assertEquals("a", query.getString("tag"));
+    assertEquals(3, query.getInt("page"));
+    assertEquals(List.of("tag", "page"), List.copyOf(query.getNames()));
+  }
+
+  @Test
+  @DisplayName("Decode names and values")
+  void decode() {
+    QueryParameters query = QueryParameters.of("q=caf%C3%A9+cr%C3%A8me&a%20b=1&bad=%zz%4");
+
+    assertEquals("café crème", query.getString("q"));
+    assertEquals("1", query.getString("a b"));
+    assertEquals("%zz%4", query.getString("bad"));
+  }
+
+  @Test
+  @DisplayName("Convert values without throwing")
+  void convertValues() {
+    QueryParameters query = QueryParameters.of("page=x&debug&day=2024-02-29");
+
+    assertNull(query.getInt("page"));
+    assertEquals(Boolean.TRUE, query.getBool("debug"));
+    assertEquals("", query.getString("debug"));
+    assertEquals(2024, query.getDate("day").getYear());
+    assertNull(query.getInt("missing"));
+  }
+
+  @Test
+  @DisplayName("Handle empty query strings")
+  void handleEmpty() {
+    assertTrue(QueryParameters.of("?").isEmpty());
+    assertTrue(QueryParameters.of("&&").isEmpty());
+    assertSame(QueryParameters.empty(), QueryParameters.of(""));
+  }
+}
@@ -0,0 +1,106 @@
+package com.webforj.addons.services.simplerouter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.webforj.addons.services.simplerouter.RouteReport.Conflict;
+import com.webforj.addons.services.simplerouter.RouteReport.Kind;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RouteAnalyzerTest {
+
+  private static RouteReport analyze(boolean firstMatchOnly, String... templates) {
+    return RouteTable.of(templates).analyze(firstMatchOnly);
+  }
+
+  @Test
+  @DisplayName("Accept routes ranked by specificity")
+  void acceptRankedRoutes() {
+    RouteReport report =
+        analyze(
+            false,
+            "users/42",
+            "users/:id:int",
+            "users/:name",
+            "users/*",
+            "files/*path",
+            "orders/:id:uuid",
+            "orders/:day:date",
+            "*");
+
+    assertFalse(report.hasConflicts(), report.toString());
+    assertSame(report, report.validate());
+  }
+
+  @Test
+  @DisplayName("Report routes shadowed by an equivalent route registered first")
+  void reportShadowedRoutes() {
+    RouteReport report =
+        analyze(false, "users/:id:int", "Users/:key:int", "flags/:name", "flags/:on:bool");
+
+    assertEquals(
+        List.of(
+            new Conflict(Kind.SHADOWED, "Users/:key:int", "users/:id:int", "users/0"),
+            new Conflict(Kind.SHADOWED, "flags/:on:bool", "flags/:name", "flags/0")),
+        report.getConflicts());
+    assertThrows(IllegalStateException.class, report::validate);
+  }
+
+  @Test
+  @DisplayName("Report overlapping parameters of the same rank as ambiguous")
+  void reportAmbiguousRoutes() {
+    RouteReport report =
+        analyze(
+            false,
+            "codes/:a:regex([0-9]+)",
+            "codes/:b:regex([a-z0-9]+)",
+            "colors/:c:enum(red,blue)",
+            "colors/:d:enum(blue,green)",
+            "days/:x:date",
+            "days/:y:uuid");
+
+    assertEquals(
+        List.of(
+            new Conflict(
+                Kind.AMBIGUOUS, "codes/:b:regex([a-z0-9]+)", "codes/:a:regex([0-9]+)", "codes/0"),
+            new Conflict(
+                Kind.AMBIGUOUS,
+                "colors/:d:enum(blue,green)",
+                "colors/:c:enum(red,blue)",
+                "colors/blue")),
+        report.getConflicts());
+  }
+
+  @Test
+  @DisplayName("Report routes that are never notified")
+  void reportUnreachableRoutes() {
+    RouteReport all = analyze(false, "status/:s:enum()", "a/:x?page:int", "a/:y");
+    RouteReport first = analyze(true, "a/:x", "a/:y");
+
+    assertEquals(
+        List.of(new Conflict(Kind.UNREACHABLE, "status/:s:enum()", null, null)),
+        all.getConflicts(Kind.UNREACHABLE));
+    assertEquals(List.of(), all.getConflicts(Kind.SHADOWED));
+    assertEquals(Kind.AMBIGUOUS, all.getConflicts().get(1).kind());
+    assertEquals(
+        List.of(new Conflict(Kind.UNREACHABLE, "a/:y", "a/:x", "a/0")), first.getConflicts());
+  }
+
+  @Test
+  @DisplayName("Describe the decision tree in matching order")
+  void describeDecisionTree() {
+    RouteReport report = analyze(false, "users/*", "users/:id:int", "users/42", "about");
+
+    assertEquals(
+        """
+        /
+          about -> about
+          users
+            42 -> users/42
+            :int -> users/:id:int
+            * -> users/*
+        """,
+        report.getDecisionTree());
+  }
+}
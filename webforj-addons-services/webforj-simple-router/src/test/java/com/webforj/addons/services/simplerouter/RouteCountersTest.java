@@ -0,0 +1,40 @@
+package com.webforj.addons.services.simplerouter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RouteCountersTest {
+
+  @Test
+  @DisplayName("Count matches and dispatches per route template")
+  void countPerTemplate() {
+    RouteTable table = RouteTable.of("users/:id:int", "users/*");
+    RouteCounters counters = new RouteCounters();
+
+    List<RouteMatch> matches = table.match("users/1");
+    counters.matched("users/1", 2, matches, 100);
+    counters.dispatched(matches.get(0), 30);
+    counters.dispatched(matches.get(0), 50);
+    counters.matched("orders", 0, List.of(), 20);
+    counters.coalesced("users/2");
+    counters.navigated("users/1", 1, 200);
+
+    assertEquals(new RouteCounters.Counters(1, 2, 80, 50), counters.get("users/:id:int"));
+    assertEquals(new RouteCounters.Counters(1, 0, 0, 0), counters.get("users/*"));
+    assertEquals(new RouteCounters.Counters(0, 0, 0, 0), counters.get("orders"));
+    assertEquals(List.of("users/*", "users/:id:int"), List.copyOf(counters.getAll().keySet()));
+    assertEquals(1, counters.getUnmatched());
+    assertEquals(120, counters.getMatchNanos());
+    assertEquals(1, counters.getNavigations());
+    assertEquals(200, counters.getNavigationNanos());
+    assertEquals(1, counters.getCoalesced());
+
+    counters.reset();
+    assertTrue(counters.getAll().isEmpty());
+    assertEquals(0, counters.getMatchNanos());
+    assertEquals(0, counters.getCoalesced());
+  }
+}
@@ -0,0 +1,66 @@
+package com.webforj.addons.services.simplerouter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RoutePathTest {
+
+  @Test
+  @DisplayName("Split the path and skip empty segments")
+  void splitSegments() {
+    RoutePath path = new RoutePath("/users//42/?tab=orders&page=2/");
+
+    assertEquals(2, path.size());
+    assertEquals("users", path.segmentString(0));
+    assertEquals("42", path.segmentString(1));
+    assertTrue(path.hasQuery());
+    assertEquals("tab=orders&page=2/", path.queryString());
+  }
+
+  @Test
+  @DisplayName("Parse the query string once, on first access")
+  void shareQuery() {
+    RoutePath path = new RoutePath("users?tab=orders");
+
+    assertSame(path.query(), path.query());
+    assertEquals("orders", path.query().getString("tab"));
+    assertTrue(new RoutePath("users").query().isEmpty());
+  }
+
+  @Test
+  @DisplayName("Expose segments as views over the route string")
+  void exposeSegmentViews() {
+    RoutePath path = new RoutePath("files/Report.PDF");
+    CharSequence segment = path.segment(1);
+
+    assertEquals(6, path.start(1));
+    assertEquals(16, path.end(1));
+    assertEquals("Report.PDF", segment.toString());
+    assertEquals("PDF", segment.subSequence(7, 10).toString());
+    assertEquals("report.pdf", path.segmentLowerCase(1));
+    assertTrue(path.segmentEquals(0, "files"));
+    assertFalse(path.segmentEquals(0, "file"));
+  }
+
+  @Test
+  @DisplayName("Decode each segment on its own")
+  void decodeSegments() {
+    RoutePath path = new RoutePath("orders/A%2F7%20b/Caf%C3%A9?q=%20");
+
+    assertEquals(3, path.size());
+    assertEquals("A/7 b", path.segmentString(1));
+    assertEquals("A/7 b", path.segment(1).toString());
+    assertEquals("A%2F7%20b", path.rawSegment(1));
+    assertEquals("café", path.segmentLowerCase(2));
+    assertEquals("q=%20", path.queryString());
+  }
+
+  @Test
+  @DisplayName("Handle empty route strings")
+  void handleEmptyRouteStrings() {
+    assertEquals(0, new RoutePath("").size());
+    assertEquals(0, new RoutePath("///").size());
+  }
+}
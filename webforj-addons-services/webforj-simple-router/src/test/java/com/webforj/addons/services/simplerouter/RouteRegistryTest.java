@@ -0,0 +1,105 @@
+package com.webforj.addons.services.simplerouter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.webforj.addons.services.simplerouter.event.SimpleRouteMatchEvent;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RouteRegistryTest {
+
+  @Test
+  @DisplayName("Leave snapshots untouched when registering")
+  void keepSnapshotsImmutable() {
+    RouteRegistry first = RouteRegistry.EMPTY.withRoute("users/:id:int");
+    RouteRegistry second = first.withRoute("about");
+
+    assertSame(first, first.withRoute("users/:id:int"));
+    assertFalse(first.contains("about"));
+    assertTrue(second.contains("about"));
+    assertSame(first.getDispatcher("users/:id:int"), second.getDispatcher("users/:id:int"));
+  }
+
+  @Test
+  @DisplayName("Register many routes in one snapshot")
+  void registerManyRoutes() {
+    RouteRegistry first = RouteRegistry.EMPTY.withRoute("bulk/a");
+    RouteRegistry second = first.withRoutes(List.of("bulk/a", "bulk/:id:int", "bulk/:id:int"));
+
+    assertSame(second, second.withRoutes(List.of("bulk/:id:int", "bulk/a")));
+    assertSame(first.getDispatcher("bulk/a"), second.getDispatcher("bulk/a"));
+    assertNotNull(second.getDispatcher("bulk/:id:int"));
+    assertEquals(2, second.getDispatchers().size());
+  }
+
+  @Test
+  @DisplayName("Drop routes left without listeners")
+  void dropDeadRoutes() {
+    RouteRegistry registry = RouteRegistry.EMPTY.withRoute("pruned/:id:int").withRoute("about");
+    registry
+        .getDispatcher("about")
+        .addListener(SimpleRouteMatchEvent.class, (SimpleRouteMatchEvent e) -> {});
+
+    assertEquals(List.of("pruned/:id:int"), registry.getDeadRoutes());
+
+    RouteRegistry pruned = registry.withoutRoutes(registry.getDeadRoutes());
+    assertFalse(pruned.contains("pruned/:id:int"));
+    assertTrue(pruned.contains("about"));
+    assertNull(pruned.getDispatcher("pruned/:id:int"));
+    assertSame(pruned, pruned.withoutRoutes(List.of("pruned/:id:int")));
+  }
+
+  @Test
+  @DisplayName("Resolve interceptor chains by prefix, in order")
+  void resolveInterceptorChains() {
+    RouteInterceptor global = (router, match) -> true;
+    RouteInterceptor admin = (router, match) -> true;
+    RouteRegistry registry =
+        RouteRegistry.EMPTY
+            .withRoute("admin/users")
+            .withRoute("administration")
+            .withInterceptor("ADMIN", admin)
+            .withInterceptor("", global);
+
+    assertArrayEquals(
+        new RouteInterceptor[] {admin, global}, registry.getInterceptors("admin/users"));
+    assertArrayEquals(new RouteInterceptor[] {global}, registry.getInterceptors("administration"));
+    assertArrayEquals(
+        new RouteInterceptor[] {global},
+        registry.withoutInterceptor(admin).withRoute("admin").getInterceptors("admin"));
+  }
+
+  @Test
+  @DisplayName("Keep every route registered concurrently")
+  void registerConcurrently() throws InterruptedException {
+    AtomicReference<RouteRegistry> registry = new AtomicReference<>(RouteRegistry.EMPTY);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    CountDownLatch start = new CountDownLatch(1);
+    for (int i = 0; i < 200; i++) {
+      String routeString = "route" + i + "/:id:int";
+      executor.execute(
+          () -> {
+            try {
+              start.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            registry.updateAndGet(r -> r.withRoute(routeString));
+          });
+    }
+    start.countDown();
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+    for (int i = 0; i < 200; i++) {
+      assertTrue(registry.get().contains("route" + i + "/:id:int"));
+    }
+    assertEquals(200, registry.get().getDispatchers().size());
+  }
+}
@@ -0,0 +1,114 @@
+package com.webforj.addons.services.simplerouter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class RouteSegmentTest {
+
+  @Nested
+  @DisplayName("Parser Tests")
+  class ParserTests {
+
+    @Test
+    @DisplayName("Parse integers within range only")
+    void parseInt() {
+      assertEquals(42, RouteSegment.parseInt("42"));
+      assertEquals(-7, RouteSegment.parseInt("-7"));
+      assertEquals(Integer.MIN_VALUE, RouteSegment.parseInt("-2147483648"));
+      assertNull(RouteSegment.parseInt("2147483648"));
+      assertNull(RouteSegment.parseInt("12a"));
+      assertNull(RouteSegment.parseInt("-"));
+      assertNull(RouteSegment.parseInt(""));
+    }
+
+    @Test
+    @DisplayName("Parse longs within range only")
+    void parseLong() {
+      assertEquals(Long.MAX_VALUE, RouteSegment.parseLong("9223372036854775807"));
+      assertEquals(Long.MIN_VALUE, RouteSegment.parseLong("-9223372036854775808"));
+      assertNull(RouteSegment.parseLong("9223372036854775808"));
+      assertNull(RouteSegment.parseLong("99999999999999999999999"));
+    }
+
+    @Test
+    @DisplayName("Parse decimal numbers following the BigDecimal grammar")
+    void parseNum() {
+      assertEquals(new BigDecimal("12.50"), RouteSegment.parseNum("12.50"));
+      assertEquals(new BigDecimal(".5"), RouteSegment.parseNum(".5"));
+      assertEquals(new BigDecimal("1e3"), RouteSegment.parseNum("1E3"));
+      assertNull(RouteSegment.parseNum("."));
+      assertNull(RouteSegment.parseNum("1e"));
+      assertNull(RouteSegment.parseNum("1e9999999999"));
+      assertNull(RouteSegment.parseNum("1e999999999"));
+      assertNull(RouteSegment.parseNum("1e-1001"));
+      assertEquals(new BigDecimal("1e1000"), RouteSegment.parseNum("1e+1000"));
+      assertEquals(new BigDecimal("1e-1000"), RouteSegment.parseNum("1e-0001000"));
+      assertNull(RouteSegment.parseNum("abc"));
+    }
+
+    @Test
+    @DisplayName("Parse canonical UUIDs")
+    void parseUuid() {
+      UUID uuid = UUID.randomUUID();
+      assertEquals(uuid, RouteSegment.parseUuid(uuid.toString()));
+      assertEquals(uuid, RouteSegment.parseUuid(uuid.toString().toUpperCase()));
+      assertNull(RouteSegment.parseUuid("not-a-uuid"));
+      assertNull(RouteSegment.parseUuid(uuid.toString().replace('-', '_')));
+    }
+
+    @Test
+    @DisplayName("Parse ISO calendar dates")
+    void parseDate() {
+      assertEquals(LocalDate.of(2024, 2, 29), RouteSegment.parseDate("2024-02-29"));
+      assertNull(RouteSegment.parseDate("2023-02-29"));
+      assertNull(RouteSegment.parseDate("2024-13-01"));
+      assertNull(RouteSegment.parseDate("2024-1-01"));
+    }
+  }
+
+  @Nested
+  @DisplayName("Declaration Tests")
+  class DeclarationTests {
+
+    @Test
+    @DisplayName("Restrict enumerated segments to their choices")
+    void enumSegments() {
+      RouteSegment segment = new RouteSegment(0, ":status:enum(open,closed)");
+
+      assertEquals(RouteSegment.SegmentType.ENUM, segment.getType());
+      assertEquals("open", segment.parse("OPEN"));
+      assertNull(segment.parse("pending"));
+    }
+
+    @Test
+    @DisplayName("Restrict regex segments to their expression")
+    void regexSegments() {
+      RouteSegment segment = new RouteSegment(0, ":code:regex([A-Z]{3}:\\d+)");
+
+      assertEquals("code", segment.getName());
+      assertEquals("ABC:12", segment.parse("ABC:12"));
+      assertNull(segment.parse("abc:12"));
+    }
+
+    @Test
+    @DisplayName("Share a type key between segments accepting the same values")
+    void typeKeys() {
+      assertEquals(
+          new RouteSegment(0, ":a:int").getTypeKey(), new RouteSegment(2, ":b:int").getTypeKey());
+      assertEquals(
+          new RouteSegment(0, ":a").getTypeKey(), new RouteSegment(0, ":b:str").getTypeKey());
+      assertNotEquals(
+          new RouteSegment(0, ":a:enum(x)").getTypeKey(),
+          new RouteSegment(0, ":a:enum(y)").getTypeKey());
+      assertNotEquals(
+          new RouteSegment(0, ":a:enum(Open,Closed)").getTypeKey(),
+          new RouteSegment(0, ":a:enum(open,closed)").getTypeKey());
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package com.webforj.addons.services.simplerouter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RouteTableTest {
+
+  @Test
+  @DisplayName("Return the same table when nothing new is added")
+  void reuseUnchangedTable() {
+    RouteTable table = RouteTable.of("a", "b/:id:int");
+
+    assertSame(table, table.with("a"));
+    assertSame(table, table.with(RouteTable.of("b/:id:int")));
+    assertNotSame(table, table.with("c"));
+  }
+
+  @Test
+  @DisplayName("Reuse compiled routes across tables")
+  void reuseCompiledRoutes() {
+    RouteTable table = RouteTable.of("users/:id:int");
+    RouteTable merged = RouteTable.of("about").with(table);
+
+    assertSame(table.getRoute("users/:id:int"), merged.getRoute("users/:id:int"));
+    assertEquals(List.of("about", "users/:id:int"), List.copyOf(merged.getRouteStrings()));
+  }
+
+  @Test
+  @DisplayName("Mount a child table under a prefix")
+  void mountChildTable() {
+    RouteTable admin = RouteTable.of("", "users/:id:int", "users/*", "search?page:int");
+    RouteTable table = RouteTable.of("users/:id:int").mount("/admin/*", admin);
+
+    assertEquals(
+        List.of(
+            "users/:id:int",
+            "admin",
+            "admin/users/:id:int",
+            "admin/users/*",
+            "admin/search?page:int"),
+        List.copyOf(table.getRouteStrings()));
+    assertEquals("admin/users/:id:int", table.matchFirst("admin/users/7").getRoute().getRoute());
+    assertEquals(7, table.matchFirst("admin/users/7").getInt("id"));
+    assertEquals("users/:id:int", table.matchFirst("users/7").getRoute().getRoute());
+    assertEquals(2, table.matchFirst("admin/search?page=2").getInt("page"));
+    assertSame(table, table.mount("admin", admin));
+
+    RouteTable orgs = RouteTable.empty().mount("orgs/:org", RouteTable.of("members/:id:int"));
+    RouteMatch match = orgs.matchFirst("orgs/acme/members/3");
+    assertEquals("acme", match.getString("org"));
+    assertEquals(3, match.getInt("id"));
+  }
+
+  @Test
+  @DisplayName("Normalize mount prefixes and reject invalid ones")
+  void normalizeMountPrefixes() {
+    assertEquals("admin", RouteTable.mountPrefix("/admin/*"));
+    assertEquals("", RouteTable.mountPrefix("*"));
+    assertEquals("admin/users", RouteTable.join("admin", "/users"));
+    assertEquals("admin?tab=1", RouteTable.join("admin", "?tab=1"));
+    assertEquals("users", RouteTable.join("", "users"));
+    assertThrows(IllegalArgumentException.class, () -> RouteTable.mountPrefix("a/*/b"));
+    assertThrows(IllegalArgumentException.class, () -> RouteTable.mountPrefix("a?b"));
+  }
+
+  @Test
+  @DisplayName("Match against every route of the table")
+  void matchRoutes() {
+    RouteTable table = RouteTable.of("users/:id:int", "users/*");
+
+    List<RouteMatch> matches = table.match("users/3");
+
+    assertEquals(2, matches.size());
+    assertTrue(table.match("orders").isEmpty());
+  }
+
+  @Test
+  @DisplayName("Remove routes without compiling the others again")
+  void removeRoutes() {
+    RouteTable table = RouteTable.of("a", "b/:id:int");
+    RouteTable remaining = table.without(List.of("a"));
+
+    assertEquals(List.of("b/:id:int"), List.copyOf(remaining.getRouteStrings()));
+    assertSame(table.getRoute("b/:id:int"), remaining.getRoute("b/:id:int"));
+    assertSame(remaining, remaining.without(List.of("a")));
+    assertTrue(remaining.without(List.of("b/:id:int")).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Register shared routes idempotently")
+  void registerSharedRoutes() {
+    RouteTable first = RouteTable.registerShared("shared/route/test");
+    RouteTable second = RouteTable.registerShared("shared/route/test");
+
+    assertSame(first, second);
+    assertSame(second, RouteTable.getShared());
+    assertTrue(RouteTable.getShared().contains("shared/route/test"));
+  }
+}
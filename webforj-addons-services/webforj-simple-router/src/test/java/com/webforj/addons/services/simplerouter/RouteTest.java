@@ -0,0 +1,126 @@
+package com.webforj.addons.services.simplerouter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RouteTest {
+
+  @Test
+  @DisplayName("Match a route and convert its parameters once")
+  void matchRoute() {
+    Route route = new Route("users/:id:int/balance/:amount:num/:active:bool/:name");
+    RouteMatch match = route.match("users/7/balance/12.50/false/john");
+
+    assertNotNull(match);
+    assertSame(route, match.getRoute());
+    assertEquals(7, match.getInt("id"));
+    assertEquals(new BigDecimal("12.50"), match.getNum("amount"));
+    assertEquals(Boolean.FALSE, match.getBool("active"));
+    assertEquals("john", match.getString("name"));
+    assertEquals("7", match.getString("id"));
+    assertEquals(4, match.getParameters().size());
+  }
+
+  @Test
+  @DisplayName("Reject values that do not satisfy the parameter type")
+  void rejectInvalidValues() {
+    Route route = new Route("users/:id:int");
+
+    assertNull(route.match("users/abc"));
+    assertFalse(route.matches("users/99999999999"));
+    assertTrue(route.matches("USERS/5"));
+  }
+
+  @Test
+  @DisplayName("Resolve parameters after a wildcard by their matched position")
+  void resolveParametersAfterWildcard() {
+    RouteMatch match = new Route("*/edit/:id:int").match("a/b/c/edit/3");
+
+    assertNotNull(match);
+    assertEquals(3, match.getInt("id"));
+  }
+
+  @Test
+  @DisplayName("Capture the path matched by a named wildcard")
+  void captureNamedWildcard() {
+    Route route = new Route("files/*path/:ext");
+    RouteMatch match = route.match("files/docs/a%20b/pdf?x=1");
+
+    assertNotNull(match);
+    assertEquals("docs/a b", match.getPath("path").toString());
+    assertEquals("docs/a%20b", match.getString("path"));
+    assertEquals("pdf", match.getString("ext"));
+    assertTrue(new Route("files/*path").match("files").getPath("path").isEmpty());
+    assertNull(match.getPath("ext"));
+  }
+
+  @Test
+  @DisplayName("Build a match without parameters from the route alone")
+  void matchOfRoute() {
+    Route route = new Route("users/:id:int");
+    RouteMatch match = RouteMatch.of(route);
+
+    assertSame(route, match.getRoute());
+    assertEquals("users/:id:int", match.getRouteString());
+    assertTrue(match.getParameters().isEmpty());
+    assertNull(match.getInt("id"));
+  }
+
+  @Test
+  @DisplayName("Describe the parameters declared by the template")
+  void describeParameters() {
+    Route route = new Route("files/:id:int/*path/:code:integer?page:int&tag");
+
+    assertEquals(
+        List.of(
+            new RouteParameter("id", "int", "int", false),
+            new RouteParameter("path", "path", "", false),
+            new RouteParameter("code", "str", "integer", false),
+            new RouteParameter("page", "int", "int", true),
+            new RouteParameter("tag", "str", "", true)),
+        route.getParameters());
+  }
+
+  @Test
+  @DisplayName("Keep the legacy lookups working")
+  void legacyLookups() {
+    Route route = new Route("users/:id:int/:name");
+
+    assertEquals(5, route.getInt("users/5/john", "id"));
+    assertEquals("john", route.getString("users/5/john", "name"));
+    assertNull(route.getInt("users/5/john", "name"));
+  }
+
+  @Test
+  @DisplayName("Match declared query parameters by name, in any order")
+  void matchQueryParameters() {
+    Route route = new Route("search/:term?page:int&sort");
+
+    RouteMatch match = route.match("search/shoes?sort=price&utm=mail&page=2");
+    assertNotNull(match);
+    assertEquals(2, match.getInt("page"));
+    assertEquals("price", match.getString("sort"));
+    assertEquals("mail", match.getQuery().getString("utm"));
+    assertFalse(match.hasParameter("utm"));
+
+    assertNotNull(route.match("search/shoes"));
+    assertNull(route.match("search/shoes?page=two"));
+    assertEquals(2, route.getInt("search/shoes?page=2", "page"));
+  }
+
+  @Test
+  @DisplayName("Split the path on slashes only")
+  void splitPathOnSlashesOnly() {
+    Route literal = new Route("tags&sort");
+    Route typed = new Route("codes/:code:regex([a-z]+&[a-z]+)");
+
+    assertTrue(literal.matches("tags&sort"));
+    assertFalse(literal.matches("tags/sort"));
+    assertFalse(literal.matches("tags?sort"));
+    assertEquals("ab&cd", typed.match("codes/ab&cd").getString("code"));
+  }
+}
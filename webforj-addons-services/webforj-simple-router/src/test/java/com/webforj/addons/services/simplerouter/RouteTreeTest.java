@@ -0,0 +1,152 @@
+package com.webforj.addons.services.simplerouter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RouteTreeTest {
+
+  private RouteTree tree;
+
+  private List<String> match(String routeString) {
+    return tree.match(routeString).stream().map(m -> m.getRoute().getRoute()).sorted().toList();
+  }
+
+  @BeforeEach
+  void setUp() {
+    tree = new RouteTree();
+  }
+
+  @Test
+  @DisplayName("Match static routes case-insensitively")
+  void matchStaticRoutes() {
+    tree.insert(new Route("about"));
+    tree.insert(new Route("users/list"));
+
+    assertEquals(List.of("about"), match("About"));
+    assertEquals(List.of("users/list"), match("users/list/"));
+    assertTrue(match("users").isEmpty());
+  }
+
+  @Test
+  @DisplayName("Match typed parameters only when the value satisfies the type")
+  void matchTypedParameters() {
+    tree.insert(new Route("users/:id:int"));
+    tree.insert(new Route("users/:name"));
+
+    assertEquals(List.of("users/:id:int", "users/:name"), match("users/42"));
+    assertEquals(List.of("users/:name"), match("users/john"));
+  }
+
+  @Test
+  @DisplayName("Match wildcards against any number of segments")
+  void matchWildcards() {
+    tree.insert(new Route("files/*"));
+    tree.insert(new Route("*/edit"));
+
+    assertEquals(List.of("files/*"), match("files"));
+    assertEquals(List.of("files/*"), match("files/a/b/c"));
+    assertEquals(List.of("*/edit"), match("users/1/edit"));
+  }
+
+  @Test
+  @DisplayName("Capture named wildcards and agree with Route.match")
+  void captureNamedWildcards() {
+    tree.insert(new Route("files/*path/raw"));
+    tree.insert(new Route("*rest"));
+
+    for (RouteMatch m : tree.match("files/a/b/raw")) {
+      RouteMatch expected = m.getRoute().match("files/a/b/raw");
+      assertEquals(expected.getParameters(), m.getParameters());
+    }
+    assertEquals("a/b", tree.match("files/a/b/raw").get(0).getPath("path").toString());
+  }
+
+  @Test
+  @DisplayName("Report each route once even when reachable through several branches")
+  void matchRoutesOnce() {
+    tree.insert(new Route("*/*"));
+
+    assertEquals(List.of("*/*"), match("a/b/c"));
+  }
+
+  @Test
+  @DisplayName("Agree with Route.matches")
+  void agreeWithRouteMatches() {
+    List<String> templates = List.of("a/:x:int/*", "a/b", ":p/b", "*");
+    templates.forEach(t -> tree.insert(new Route(t)));
+
+    for (String path : List.of("a/1", "a/b", "a/1/z/z", "x/b", "")) {
+      List<String> expected = templates.stream().filter(t -> new Route(t).matches(path)).toList();
+      assertEquals(expected.stream().sorted().toList(), match(path));
+    }
+  }
+
+  @Test
+  @DisplayName("Capture typed parameters on the match")
+  void captureParameters() {
+    tree.insert(new Route("*/orders/:id:int/:flag:bool"));
+    tree.insert(new Route("shop/orders/:total:num/:note"));
+
+    List<RouteMatch> matches = tree.match("shop/orders/12/0");
+    assertEquals(2, matches.size());
+    for (RouteMatch m : matches) {
+      if (m.getRoute().getRoute().startsWith("*")) {
+        assertEquals(12, m.getInt("id"));
+        assertEquals(Boolean.FALSE, m.getBool("flag"));
+      } else {
+        assertEquals(new BigDecimal("12"), m.getNum("total"));
+        assertEquals("0", m.getString("note"));
+        assertNull(m.getInt("total"));
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Resolve enumerated values to the choices of each route")
+  void resolveChoicesPerRoute() {
+    tree.insert(new Route("tickets/:state:enum(Open,Closed)"));
+    tree.insert(new Route("issues/:state:enum(open,closed)"));
+    tree.insert(new Route("tickets/:status:enum(open,closed)"));
+
+    List<RouteMatch> matches = tree.match("tickets/OPEN");
+    assertEquals(2, matches.size());
+    assertEquals("Open", matches.get(0).getParameters().get("state"));
+    assertEquals("open", matches.get(1).getParameters().get("status"));
+    assertEquals("open", tree.match("issues/OPEN").get(0).getParameters().get("state"));
+  }
+
+  @Test
+  @DisplayName("Order matches from the most to the least specific route")
+  void orderBySpecificity() {
+    tree.insert(new Route("*"));
+    tree.insert(new Route("users/:name"));
+    tree.insert(new Route("users/*"));
+    tree.insert(new Route("users/:id:int"));
+    tree.insert(new Route("users/42"));
+
+    List<String> ordered =
+        tree.match("users/42").stream().map(m -> m.getRoute().getRoute()).toList();
+
+    assertEquals(List.of("users/42", "users/:id:int", "users/:name", "users/*", "*"), ordered);
+  }
+
+  @Test
+  @DisplayName("Stop at the most specific route accepted by the filter")
+  void stopAtFirstMatch() {
+    tree.insert(new Route("users/:name"));
+    tree.insert(new Route("users/:id:int"));
+    tree.insert(new Route("users/42"));
+
+    List<RouteMatch> first = tree.match("users/42", r -> true, true);
+    List<RouteMatch> filtered = tree.match("users/42", r -> !r.getRoute().equals("users/42"), true);
+
+    assertEquals(1, first.size());
+    assertEquals("users/42", first.get(0).getRoute().getRoute());
+    assertEquals("users/:id:int", filtered.get(0).getRoute().getRoute());
+  }
+}
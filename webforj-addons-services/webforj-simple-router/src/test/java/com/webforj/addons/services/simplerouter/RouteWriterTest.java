@@ -0,0 +1,71 @@
+package com.webforj.addons.services.simplerouter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RouteWriterTest {
+
+  @Test
+  @DisplayName("Write a route string matching the route")
+  void writeRouteString() {
+    Route route = new Route("users/:id:int/orders/:oid");
+    String url = route.url(Map.of("id", 42, "oid", "A/7 b"));
+
+    assertEquals("users/42/orders/A%2F7%20b", url);
+    RouteMatch match = route.match(url);
+    assertNotNull(match);
+    assertEquals(42, match.getInt("id"));
+    assertEquals("A/7 b", match.getString("oid"));
+  }
+
+  @Test
+  @DisplayName("Match back typed values and literals holding reserved characters")
+  void roundTripEncodedValues() {
+    Route route = new Route("café/:code:regex([A-Z]+ [0-9]+)/:state:enum(on hold,done)?q");
+    String url = route.url(Map.of("code", "AB 12", "state", "on hold", "q", "a b&c"));
+
+    assertEquals("caf%C3%A9/AB%2012/on%20hold?q=a%20b%26c", url);
+    RouteMatch match = route.match(url);
+    assertNotNull(match);
+    assertEquals("AB 12", match.getString("code"));
+    assertEquals("on hold", match.getString("state"));
+    assertEquals("a b&c", match.getString("q"));
+    assertEquals(1, new RouteTree(List.of(route)).match(url).size());
+  }
+
+  @Test
+  @DisplayName("Write wildcards and declared query parameters")
+  void writeWildcardsAndQuery() {
+    Route route = new Route("files/*/:name?tag&page:int");
+
+    assertEquals("files/a/b/x", route.url(Map.of("*", "/a//b/", "name", "x")));
+    assertEquals(
+        "files/x?tag=a%26b&tag=c&page=2",
+        route.url(Map.of("name", "x", "tag", List.of("a&b", "c"), "page", 2)));
+  }
+
+  @Test
+  @DisplayName("Write named wildcards back as they were matched")
+  void writeNamedWildcards() {
+    Route route = new Route("files/*path/raw");
+    WildcardPath path = route.match("files/a%2Fb/c/raw").getPath("path");
+
+    assertEquals("files/x/y/raw", route.url(Map.of("path", "x/y")));
+    assertEquals("files/a%2Fb/c/raw", route.url(Map.of("path", path)));
+    assertEquals("files/raw", route.url(Map.of()));
+  }
+
+  @Test
+  @DisplayName("Reject missing and invalid values")
+  void rejectInvalidValues() {
+    Route route = new Route("users/:id:int?page:int");
+
+    assertThrows(IllegalArgumentException.class, () -> route.url(Map.of()));
+    assertThrows(IllegalArgumentException.class, () -> route.url(Map.of("id", "abc")));
+    assertThrows(IllegalArgumentException.class, () -> route.url(Map.of("id", 1, "page", "x")));
+  }
+}
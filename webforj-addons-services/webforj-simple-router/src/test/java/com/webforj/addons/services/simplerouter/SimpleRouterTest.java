@@ -0,0 +1,566 @@
+package com.webforj.addons.services.simplerouter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.webforj.App;
+import com.webforj.Page;
+import com.webforj.PageEventOptions;
+import com.webforj.Request;
+import com.webforj.addons.services.simplerouter.event.SimpleRouteMatchEvent;
+import com.webforj.dispatcher.EventListener;
+import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.environment.ObjectTable;
+import com.webforj.event.page.PageEvent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+
+class SimpleRouterTest {
+
+  private MockedStatic<Page> pageStatic;
+  private MockedStatic<Request> requestStatic;
+  private MockedStatic<App> appStatic;
+  private MockedStatic<ObjectTable> objectTableStatic;
+  private Page page;
+  private SimpleRouter router;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    page = mock(Page.class);
+    when(page.addEventListener(anyString(), any(), any(PageEventOptions.class)))
+        .thenReturn(mock(ListenerRegistration.class));
+    pageStatic = mockStatic(Page.class);
+    pageStatic.when(Page::getCurrent).thenReturn(page);
+
+    Request request = mock(Request.class);
+    when(request.getUrl()).thenReturn("http://localhost:8080/app/");
+    requestStatic = mockStatic(Request.class);
+    requestStatic.when(Request::getCurrent).thenReturn(request);
+
+    appStatic = mockStatic(App.class);
+    appStatic.when(App::getApplicationName).thenReturn("app");
+
+    // an empty object table, so every call creates a router
+    objectTableStatic = mockStatic(ObjectTable.class);
+    router = SimpleRouter.getInstance();
+  }
+
+  @AfterEach
+  void tearDown() {
+    objectTableStatic.close();
+    appStatic.close();
+    requestStatic.close();
+    pageStatic.close();
+  }
+
+  // the scripts sent to the client, in order
+  private List<String> scripts() {
+    ArgumentCaptor<String> scripts = ArgumentCaptor.forClass(String.class);
+    verify(page, atLeast(0)).executeJsVoidAsync(scripts.capture());
+    return scripts.getAllValues();
+  }
+
+  // the listener the router added to the page for an event type
+  @SuppressWarnings("unchecked")
+  private EventListener<PageEvent> pageListener(String type) {
+    ArgumentCaptor<EventListener<PageEvent>> listener =
+        ArgumentCaptor.forClass(EventListener.class);
+    verify(page).addEventListener(eq(type), listener.capture(), any(PageEventOptions.class));
+    return listener.getValue();
+  }
+
+  private static PageEvent pageEvent(String key, Object value) {
+    PageEvent event = mock(PageEvent.class);
+    when(event.getData()).thenReturn(Map.of(key, value));
+    return event;
+  }
+
+  // registers a listener recording the route strings it is notified for
+  private static List<String> record(SimpleRouter target, String routeString) {
+    List<String> notified = new ArrayList<>();
+    target.onRouteMatch(
+        (SimpleRouteMatchEvent e) -> notified.add(e.getMatch().getRouteString()), routeString);
+    return notified;
+  }
+
+  @Nested
+  @DisplayName("Shared route table")
+  class SharedRoutes {
+
+    @Test
+    @DisplayName("Compile routes once in the shared table and match them through its tree")
+    void compileOnceForEveryRouter() {
+      SimpleRouter other = SimpleRouter.getInstance();
+      List<String> first = record(router, "router-test/shared/:id:int");
+      RouteTable table = RouteTable.getShared();
+      Route route = table.getRoute("router-test/shared/:id:int");
+      List<String> second = record(other, "router-test/shared/:id:int");
+
+      assertNotSame(router, other);
+      assertNotNull(route);
+      assertSame(table, RouteTable.getShared());
+      assertSame(route, RouteTable.getShared().getRoute("router-test/shared/:id:int"));
+
+      router.navigate("router-test/shared/1");
+      RouteTree tree = RouteTable.getShared().getTree();
+      other.navigate("router-test/shared/2");
+      assertSame(tree, RouteTable.getShared().getTree());
+      assertEquals(List.of("router-test/shared/1"), first);
+      assertEquals(List.of("router-test/shared/2"), second);
+    }
+
+    @Test
+    @DisplayName("Skip shared routes the router has no listener for")
+    void skipRoutesOfOtherRouters() {
+      SimpleRouter other = SimpleRouter.getInstance();
+      List<String> notified = record(other, "router-test/other-only");
+
+      router.navigate("router-test/other-only");
+
+      assertTrue(notified.isEmpty());
+      assertTrue(scripts().isEmpty());
+    }
+  }
+
+  @Nested
+  @DisplayName("History updates")
+  class HistoryUpdates {
+
+    @Test
+    @DisplayName("Replace the history entry once per navigation")
+    void replaceOncePerNavigation() {
+      record(router, "router-test/history/:id:int");
+
+      router.navigate("router-test/history/1");
+      router.navigate("router-test/history/1");
+
+      assertEquals(
+          List.of(
+              "window.history.replaceState({},'title',"
+                  + "'http://localhost:8080/app/router-test/history/1');"),
+          scripts());
+      assertEquals("router-test/history/1", router.getCurrentRoute());
+    }
+
+    @Test
+    @DisplayName("Send one update per outermost batch, to the last route")
+    void coalesceBatches() {
+      List<String> notified = record(router, "router-test/batch/:id:int");
+
+      router.batch(
+          () -> {
+            router.navigate("router-test/batch/1");
+            router.batch(() -> router.navigate("router-test/batch/2", HistoryMode.PUSH));
+            assertTrue(scripts().isEmpty());
+            router.navigate("router-test/batch/3");
+          });
+
+      assertEquals(
+          List.of("router-test/batch/1", "router-test/batch/2", "router-test/batch/3"), notified);
+      assertEquals(
+          List.of(
+              "window.history.pushState({},'title',"
+                  + "'http://localhost:8080/app/router-test/batch/3');"),
+          scripts());
+    }
+
+    @Test
+    @DisplayName("Batch navigations made by listeners with the navigation notifying them")
+    void batchListenerNavigations() {
+      router.onRouteMatch(e -> router.navigate("router-test/redirect/to"), "router-test/redirect");
+      List<String> notified = record(router, "router-test/redirect/to");
+
+      router.navigate("router-test/redirect");
+
+      assertEquals(List.of("router-test/redirect/to"), notified);
+      assertEquals(
+          List.of(
+              "window.history.replaceState({},'title',"
+                  + "'http://localhost:8080/app/router-test/redirect/to');"),
+          scripts());
+    }
+
+    @Test
+    @DisplayName("Leave the history untouched when no route matches")
+    void skipUnmatchedNavigations() {
+      router.navigate("router-test/unmatched");
+
+      assertTrue(scripts().isEmpty());
+      assertEquals("", router.getCurrentRoute());
+    }
+  }
+
+  @Nested
+  @DisplayName("Browser back and forward")
+  class PopState {
+
+    @Test
+    @DisplayName("Route popstate navigation without writing the history")
+    void routePopState() {
+      List<String> notified = record(router, "router-test/pop/:id:int");
+      router.setHistoryMode(HistoryMode.PUSH);
+      router.navigate("router-test/pop/1");
+      router.navigate("router-test/pop/2");
+
+      pageListener("popstate")
+          .onEvent(pageEvent("url", "http://localhost:8080/app/router-test/pop/1#top"));
+
+      assertEquals(
+          List.of("router-test/pop/1", "router-test/pop/2", "router-test/pop/1"), notified);
+      assertEquals("router-test/pop/1", router.getCurrentRoute());
+      assertEquals(2, scripts().size());
+      assertTrue(scripts().get(1).startsWith("window.history.pushState("));
+    }
+
+    @Test
+    @DisplayName("Ignore popstate navigation leaving the application")
+    void ignoreForeignUrls() {
+      List<String> notified = record(router, "router-test/pop/:id:int");
+      router.navigate("router-test/pop/1", HistoryMode.PUSH);
+
+      pageListener("popstate").onEvent(pageEvent("url", "http://localhost:8080/other/pop/2"));
+
+      assertEquals(List.of("router-test/pop/1"), notified);
+      assertEquals("router-test/pop/1", router.getCurrentRoute());
+    }
+
+    @Test
+    @DisplayName("Listen to popstate only once history entries are pushed")
+    void listenOnPush() {
+      record(router, "router-test/pop/:id:int");
+      router.navigate("router-test/pop/1");
+      verify(page, never()).addEventListener(eq("popstate"), any(), any(PageEventOptions.class));
+
+      router.navigate("router-test/pop/2", HistoryMode.PUSH);
+      router.navigate("router-test/pop/3", HistoryMode.PUSH);
+      verify(page).addEventListener(eq("popstate"), any(), any(PageEventOptions.class));
+    }
+  }
+
+  @Nested
+  @DisplayName("Asynchronous listeners")
+  class AsyncListeners {
+
+    @Test
+    @DisplayName("Cancel the stage of a superseded navigation")
+    void cancelSupersededStage() {
+      CompletableFuture<Void> pending = new CompletableFuture<>();
+      router.onRouteMatchAsync(e -> pending, "router-test/async/first");
+      record(router, "router-test/async/second");
+
+      router.navigate("router-test/async/first");
+      router.navigate("router-test/async/unmatched");
+      assertFalse(pending.isDone());
+
+      router.navigate("router-test/async/second");
+      assertTrue(pending.isCancelled());
+    }
+
+    @Test
+    @DisplayName("Skip asynchronous listeners of a navigation superseded before them")
+    void skipSupersededListeners() {
+      List<String> started = new ArrayList<>();
+      router.onRouteMatch(e -> router.navigate("router-test/async/next"), "router-test/async/from");
+      router.onRouteMatchAsync(
+          e -> {
+            started.add(e.getMatch().getRouteString());
+            return null;
+          },
+          "router-test/async/from");
+      List<String> notified = record(router, "router-test/async/next");
+
+      router.navigate("router-test/async/from");
+
+      assertTrue(started.isEmpty());
+      assertEquals(List.of("router-test/async/next"), notified);
+    }
+
+    @Test
+    @DisplayName("Interrupt tasks supplied by a superseded navigation")
+    void interruptSupersededTasks() throws InterruptedException {
+      CountDownLatch started = new CountDownLatch(1);
+      CountDownLatch interrupted = new CountDownLatch(1);
+      List<CompletableFuture<Object>> tasks = new ArrayList<>();
+      router.onRouteMatch(
+          e ->
+              tasks.add(
+                  router.supplyAsync(
+                      () -> {
+                        started.countDown();
+                        try {
+                          new CountDownLatch(1).await();
+                        } catch (InterruptedException ex) {
+                          interrupted.countDown();
+                        }
+                        return null;
+                      })),
+          "router-test/async/slow");
+      record(router, "router-test/async/fast");
+
+      router.navigate("router-test/async/slow");
+      assertTrue(started.await(5, TimeUnit.SECONDS));
+      router.navigate("router-test/async/fast");
+
+      assertTrue(tasks.get(0).isCancelled());
+      assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+  }
+
+  @Nested
+  @DisplayName("Interceptors")
+  class Interceptors {
+
+    @Test
+    @DisplayName("Skip the routes whose interceptor vetoes the navigation")
+    void vetoRoutes() {
+      List<String> guarded = record(router, "router-test/guard/:id:int");
+      List<String> open = record(router, "*/:id:int");
+      router.addInterceptor("router-test/GUARD", (r, match) -> false);
+
+      router.navigate("router-test/guard/1");
+
+      assertTrue(guarded.isEmpty());
+      assertEquals(List.of("router-test/guard/1"), open);
+      assertEquals(1, scripts().size());
+    }
+
+    @Test
+    @DisplayName("Leave the history untouched when every route is vetoed")
+    void vetoNavigation() {
+      List<String> guarded = record(router, "router-test/guard/:id:int");
+      router.addInterceptor((r, match) -> false);
+
+      router.navigate("router-test/guard/1");
+
+      assertTrue(guarded.isEmpty());
+      assertTrue(scripts().isEmpty());
+      assertEquals("", router.getCurrentRoute());
+    }
+
+    @Test
+    @DisplayName("Abandon the navigation an interceptor redirects")
+    void redirect() {
+      List<String> guarded = record(router, "router-test/guard/:id:int");
+      List<String> login = record(router, "router-test/login");
+      List<String> calls = new ArrayList<>();
+      router.addInterceptor(
+          "router-test/guard",
+          (r, match) -> {
+            calls.add(match.getRouteString());
+            r.navigate("router-test/login");
+            return true;
+          });
+
+      router.navigate("router-test/guard/1");
+
+      assertEquals(List.of("router-test/guard/1"), calls);
+      assertTrue(guarded.isEmpty());
+      assertEquals(List.of("router-test/login"), login);
+      assertEquals("router-test/login", router.getCurrentRoute());
+      assertEquals(
+          List.of(
+              "window.history.replaceState({},'title',"
+                  + "'http://localhost:8080/app/router-test/login');"),
+          scripts());
+    }
+
+    @Test
+    @DisplayName("Run interceptors in the order they were added until one is removed")
+    void runInOrder() {
+      List<String> calls = new ArrayList<>();
+      RouteInterceptor global =
+          (r, match) -> {
+            calls.add("global");
+            return true;
+          };
+      record(router, "router-test/guard/:id:int");
+      router.addInterceptor(
+          "router-test",
+          (r, match) -> {
+            calls.add("prefix");
+            return true;
+          });
+      router.addInterceptor(global);
+
+      router.navigate("router-test/guard/1");
+      router.removeInterceptor(global);
+      router.navigate("router-test/guard/2");
+
+      assertEquals(List.of("prefix", "global", "prefix"), calls);
+    }
+  }
+
+  @Nested
+  @DisplayName("Routes without listeners")
+  class DeadRoutes {
+
+    // registers a listener on the route and removes it right away
+    private void kill(String routeString) {
+      router.onRouteMatch(e -> fail("notified a removed listener"), routeString).get(0).remove();
+    }
+
+    @Test
+    @DisplayName("Fall back to the next live route in first-match mode")
+    void fallBackInFirstMatchMode() {
+      List<String> fallback = record(router, "router-test/dead/:id:int");
+      kill("router-test/dead/42");
+      router.setFirstMatchOnly(true);
+
+      router.navigate("router-test/dead/42");
+
+      assertEquals(List.of("router-test/dead/42"), fallback);
+      assertEquals(
+          List.of(
+              "window.history.replaceState({},'title',"
+                  + "'http://localhost:8080/app/router-test/dead/42');"),
+          scripts());
+      assertFalse(router.pruneDeadRoutes());
+    }
+
+    @Test
+    @DisplayName("Match again when a cached route has lost its listeners")
+    void rematchCachedNavigations() {
+      List<String> fallback = record(router, "router-test/dead/:id:int");
+      List<ListenerRegistration<SimpleRouteMatchEvent>> best =
+          router.onRouteMatch(e -> {}, "router-test/dead/42");
+      router.setFirstMatchOnly(true);
+      router.setNavigationCacheSize(10);
+
+      router.navigate("router-test/dead/42");
+      best.get(0).remove();
+      router.navigate("router-test/dead/42");
+
+      assertEquals(List.of("router-test/dead/42"), fallback);
+    }
+
+    @Test
+    @DisplayName("Prune dead routes reached by a navigation without running their interceptors")
+    void pruneOnNavigation() {
+      List<String> fallback = record(router, "router-test/dead/:id:int");
+      List<String> calls = new ArrayList<>();
+      kill("router-test/dead/42");
+      router.addInterceptor(
+          "router-test/dead/42",
+          (r, match) -> {
+            calls.add(match.getRoute().getRoute());
+            return true;
+          });
+
+      router.navigate("router-test/dead/42");
+
+      assertEquals(List.of("router-test/dead/42"), fallback);
+      assertTrue(calls.isEmpty());
+      assertFalse(router.pruneDeadRoutes());
+    }
+  }
+
+  @Nested
+  @DisplayName("Navigation coalescing")
+  class Coalescing {
+
+    private static final String FLUSH = "webforj-simple-router-flush";
+
+    @Test
+    @DisplayName("Dispatch only the last navigation once the flush event arrives")
+    void dispatchLastOnFlush() {
+      List<String> notified = record(router, "router-test/coalesce/:id:int");
+      router.setNavigationCoalescing(Duration.ZERO);
+
+      router.navigate("router-test/coalesce/1");
+      router.navigate("router-test/coalesce/2");
+      router.navigate("router-test/coalesce/3");
+
+      assertTrue(notified.isEmpty());
+      assertTrue(router.hasPendingNavigation());
+      assertEquals(
+          List.of(
+              "setTimeout(function(){window.dispatchEvent(new CustomEvent('"
+                  + FLUSH
+                  + "',{detail:'1'}));},0);"),
+          scripts());
+
+      pageListener(FLUSH).onEvent(pageEvent("sequence", "1"));
+
+      assertEquals(List.of("router-test/coalesce/3"), notified);
+      assertFalse(router.hasPendingNavigation());
+      assertEquals(
+          "window.history.replaceState({},'title',"
+              + "'http://localhost:8080/app/router-test/coalesce/3');",
+          scripts().get(1));
+    }
+
+    @Test
+    @DisplayName("Ignore the late flush event of a navigation already flushed")
+    void ignoreStaleFlush() {
+      List<String> notified = record(router, "router-test/coalesce/:id:int");
+      router.setNavigationCoalescing(Duration.ZERO);
+
+      router.navigate("router-test/coalesce/1");
+      router.flushNavigation();
+      router.navigate("router-test/coalesce/2");
+      EventListener<PageEvent> flush = pageListener(FLUSH);
+      flush.onEvent(pageEvent("sequence", "1"));
+
+      assertEquals(List.of("router-test/coalesce/1"), notified);
+      assertTrue(router.hasPendingNavigation());
+
+      flush.onEvent(pageEvent("sequence", "2"));
+      assertEquals(List.of("router-test/coalesce/1", "router-test/coalesce/2"), notified);
+    }
+
+    @Test
+    @DisplayName("Drop the pending navigation on popstate")
+    void dropOnPopState() {
+      List<String> notified = record(router, "router-test/coalesce/:id:int");
+      router.setNavigationCoalescing(Duration.ZERO);
+      router.navigate("router-test/coalesce/1", HistoryMode.PUSH);
+      router.flushNavigation();
+      router.navigate("router-test/coalesce/2");
+
+      pageListener("popstate")
+          .onEvent(pageEvent("url", "http://localhost:8080/app/router-test/coalesce/0"));
+      pageListener(FLUSH).onEvent(pageEvent("sequence", "2"));
+
+      assertFalse(router.hasPendingNavigation());
+      assertEquals(List.of("router-test/coalesce/1", "router-test/coalesce/0"), notified);
+      assertEquals("router-test/coalesce/0", router.getCurrentRoute());
+    }
+
+    @Test
+    @DisplayName("Push a history entry if any coalesced navigation asked for one")
+    void keepPushMode() {
+      record(router, "router-test/coalesce/:id:int");
+      router.setNavigationCoalescing(Duration.ofMillis(50));
+
+      router.navigate("router-test/coalesce/1", HistoryMode.PUSH);
+      router.navigate("router-test/coalesce/2", HistoryMode.REPLACE);
+      router.setNavigationCoalescing(null);
+
+      assertFalse(router.hasPendingNavigation());
+      assertEquals(
+          List.of(
+              "setTimeout(function(){window.dispatchEvent(new CustomEvent('"
+                  + FLUSH
+                  + "',{detail:'1'}));},50);",
+              "window.history.pushState({},'title',"
+                  + "'http://localhost:8080/app/router-test/coalesce/2');"),
+          scripts());
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package com.webforj.addons.services.simplerouter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UrlCodecTest {
+
+  @Test
+  @DisplayName("Encode path segments and query components")
+  void encodeComponents() {
+    StringBuilder segment = new StringBuilder();
+    UrlCodec.encodePathSegment(segment, "a b/c?d'é😀");
+    assertEquals("a%20b%2Fc%3Fd%27%C3%A9%F0%9F%98%80", segment.toString());
+
+    StringBuilder query = new StringBuilder();
+    UrlCodec.encodeQueryComponent(query, "a&b=c+d/e");
+    assertEquals("a%26b%3Dc%2Bd/e", query.toString());
+  }
+
+  @Test
+  @DisplayName("Keep separators and escapes when encoding a whole URL")
+  void encodeUrl() {
+    StringBuilder url = new StringBuilder();
+    UrlCodec.encodeUrl(url, "users/john doe?q=a%20b&x=100%");
+    assertEquals("users/john%20doe?q=a%20b&x=100%25", url.toString());
+  }
+
+  @Test
+  @DisplayName("Decode what was encoded")
+  void roundTrip() {
+    String value = "café & crème/100%";
+    StringBuilder encoded = new StringBuilder();
+    UrlCodec.encodeQueryComponent(encoded, value);
+    assertEquals(value, UrlCodec.decode(encoded, 0, encoded.length(), true));
+  }
+}
@@ -0,0 +1,121 @@
+package com.webforj.addons.services.simplerouter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ViewCacheTest {
+
+  private final Route orders = new Route("orders/:id:int");
+  private final List<String> events = new ArrayList<>();
+
+  private ViewCache<String> cache(ViewCache<String> cache) {
+    cache.setLifecycle(
+        new ViewCache.Lifecycle<>() {
+          @Override
+          public void onDetach(String view) {
+            events.add("detach " + view);
+          }
+
+          @Override
+          public void onReattach(String view) {
+            events.add("reattach " + view);
+          }
+
+          @Override
+          public void onEvict(String view) {
+            events.add("evict " + view);
+          }
+        });
+    return cache;
+  }
+
+  private String view(ViewCache<String> cache, Route route, String routeString) {
+    return cache.get(route.match(routeString), m -> "view " + m.getRouteString());
+  }
+
+  @Test
+  @DisplayName("Key views by route template and parameters")
+  void keyByTemplateAndParameters() {
+    ViewCache<String> cache = cache(new ViewCache<>(10));
+
+    String first = view(cache, orders, "orders/1");
+    assertSame(first, view(cache, orders, "orders/01"));
+    assertNotSame(first, view(cache, orders, "orders/2"));
+    assertEquals(2, cache.size());
+
+    Route files = new Route("files/*");
+    assertNotSame(view(cache, files, "files/a/b"), view(cache, files, "files/a/c"));
+    assertSame(view(cache, files, "files/a/b?x=1"), view(cache, files, "files/a/b"));
+  }
+
+  @Test
+  @DisplayName("Detach the shown view and reattach a cached one")
+  void detachAndReattach() {
+    ViewCache<String> cache = cache(new ViewCache<>(10));
+
+    view(cache, orders, "orders/1");
+    view(cache, orders, "orders/2");
+    view(cache, orders, "orders/1");
+    view(cache, orders, "orders/1");
+
+    assertEquals(
+        List.of("detach view orders/1", "detach view orders/2", "reattach view orders/1"), events);
+    assertEquals("view orders/1", cache.getActiveView());
+  }
+
+  @Test
+  @DisplayName("Evict the least recently shown view")
+  void evictLeastRecentlyShown() {
+    ViewCache<String> cache = cache(new ViewCache<>(2));
+
+    view(cache, orders, "orders/1");
+    view(cache, orders, "orders/2");
+    view(cache, orders, "orders/1");
+    view(cache, orders, "orders/3");
+
+    assertEquals(2, cache.size());
+    assertTrue(events.contains("evict view orders/2"));
+  }
+
+  @Test
+  @DisplayName("Evict by weight but keep the shown view")
+  void evictByWeight() {
+    ViewCache<String> cache = cache(new ViewCache<>(20, String::length));
+
+    view(cache, orders, "orders/1");
+    view(cache, orders, "orders/22");
+    assertEquals(14, cache.getWeight());
+    assertTrue(events.contains("evict view orders/1"));
+
+    view(cache, orders, "orders/3333333");
+    assertEquals(1, cache.size());
+    assertEquals("view orders/3333333", cache.getActiveView());
+  }
+
+  @Test
+  @DisplayName("Invalidate and clear views")
+  void invalidateAndClear() {
+    ViewCache<String> cache = cache(new ViewCache<>(10));
+
+    view(cache, orders, "orders/1");
+    view(cache, orders, "orders/2");
+    cache.invalidate(orders.match("orders/2"));
+    assertNull(cache.getActiveView());
+    assertEquals(1, cache.size());
+
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getWeight());
+    assertTrue(events.contains("evict view orders/1"));
+  }
+
+  @Test
+  @DisplayName("Reject a budget that is not positive")
+  void rejectInvalidBudget() {
+    assertThrows(IllegalArgumentException.class, () -> new ViewCache<String>(0));
+  }
+}
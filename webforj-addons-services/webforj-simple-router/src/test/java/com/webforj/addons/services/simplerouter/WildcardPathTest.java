@@ -0,0 +1,46 @@
+package com.webforj.addons.services.simplerouter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class WildcardPathTest {
+
+  @Test
+  @DisplayName("Read the capture in place when it holds no escape")
+  void readInPlace() {
+    String source = "files/docs/report.pdf";
+    WildcardPath path = new WildcardPath(source, 6, source.length());
+
+    assertEquals("docs/report.pdf", path.toString());
+    assertEquals(15, path.length());
+    assertEquals('d', path.charAt(0));
+    assertEquals("report", path.subSequence(5, 11).toString());
+    assertEquals("docs/report.pdf", path.raw().toString());
+  }
+
+  @Test
+  @DisplayName("Decode escapes lazily and keep encoded slashes in their segment")
+  void decodeLazily() {
+    String source = "files/a%2Fb/c%20d";
+    WildcardPath path = new WildcardPath(source, 6, source.length());
+
+    assertEquals("a%2Fb/c%20d", path.raw().toString());
+    assertEquals("a/b/c d", path.toString());
+    assertEquals(List.of("a/b", "c d"), path.segments());
+  }
+
+  @Test
+  @DisplayName("Compare captures by their decoded content")
+  void compareDecoded() {
+    WildcardPath encoded = new WildcardPath("x/a%20b", 2, 7);
+    WildcardPath plain = new WildcardPath("a b", 0, 3);
+
+    assertEquals(plain, encoded);
+    assertEquals(plain.hashCode(), encoded.hashCode());
+    assertTrue(new WildcardPath("x", 0, 0).isEmpty());
+    assertTrue(new WildcardPath("x", 0, 0).segments().isEmpty());
+  }
+}
@@ -4,7 +4,9 @@ import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import com.webforj.Page;
 import com.webforj.PendingResult;
+import com.webforj.addons.services.webauthn.data.AttestationObject;
 import com.webforj.addons.services.webauthn.data.AuthenticationResponse;
+import com.webforj.addons.services.webauthn.data.AuthenticatorData;
 import com.webforj.addons.services.webauthn.data.COSEAlgorithmIdentifier;
 import com.webforj.addons.services.webauthn.data.ClientDataJson;
 import com.webforj.addons.services.webauthn.data.PublicKeyCredentialCreationOptions;
@@ -14,6 +16,7 @@ import com.webforj.addons.services.webauthn.data.RegistrationResponse;
 import com.webforj.addons.services.webauthn.data.RelyingPartyIdentity;
 import com.webforj.component.html.HtmlComponent;
 import com.webforj.component.html.elements.Div;
+import java.net.URI;
 import java.security.KeyFactory;
 import java.security.NoSuchAlgorithmException;
 import java.security.Signature;
@@ -333,6 +336,20 @@ public class RelyingParty {
     }
 
     COSEAlgorithmIdentifier.fromValue(response.getResponse().getPublicKeyAlgorithm());
+
+    AuthenticatorData authenticatorData =
+        AttestationObject.fromBase64Url(response.getResponse().getAttestationObject())
+            .getAuthenticatorData();
+    validateAuthenticatorData(authenticatorData);
+    if (!authenticatorData.hasAttestedCredentialData()) {
+      throw new IllegalArgumentException("Authenticator data is missing attested credential data");
+    }
+    long algorithm = authenticatorData.getCredentialPublicKeyAlgorithm();
+    if (algorithm != response.getResponse().getPublicKeyAlgorithm()) {
+      throw new IllegalArgumentException(
+          "Unexpected credential public key algorithm %d, expected %d"
+              .formatted(algorithm, response.getResponse().getPublicKeyAlgorithm()));
+    }
     return response;
   }
 
@@ -355,9 +372,40 @@ public class RelyingParty {
         "webauthn.get",
         this.origin);
 
+    if (response.getResponse().getAuthenticatorData() == null) {
+      throw new IllegalArgumentException("authenticatorData cannot be null");
+    }
+    validateAuthenticatorData(
+        AuthenticatorData.fromBase64Url(response.getResponse().getAuthenticatorData()));
     return response;
   }
 
+  /**
+   * Validates the RP ID hash and the user presence flag of the authenticator data. The RP ID is the
+   * one of the relying party identity or, when unset, the host of the expected origin, as the
+   * browser defaults to it.
+   *
+   * @param authenticatorData The decoded {@code AuthenticatorData} to validate.
+   * @throws IllegalArgumentException If the credential is scoped to another RP ID or the user was
+   *     not present.
+   * @see <a href="https://www.w3.org/TR/webauthn-3/#sctn-registering-a-new-credential">§7.1
+   *     Registering a New Credential</a>
+   */
+  private void validateAuthenticatorData(AuthenticatorData authenticatorData)
+      throws IllegalArgumentException {
+    String rpId = relyingPartyIdentity.getId();
+    if (rpId == null || rpId.isEmpty()) {
+      rpId = URI.create(this.origin).getHost();
+    }
+    if (rpId == null || !authenticatorData.isScopedTo(rpId)) {
+      throw new IllegalArgumentException(
+          "Authenticator data RP ID hash does not match \"%s\"".formatted(rpId));
+    }
+    if (!authenticatorData.isUserPresent()) {
+      throw new IllegalArgumentException("User presence flag is not set in authenticator data");
+    }
+  }
+
   /**
    * Filters the list of {@code PublicKeyCredentialParameters} to include only algorithms for which
    * both {@link KeyFactory} and {@link Signature} are available, and logs warnings for any
@@ -0,0 +1,348 @@
+package com.webforj.addons.services.webauthn.cbor;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A streaming reader of CBOR data items, as used by WebAuthn for attestation objects, authenticator
+ * data extensions and COSE keys. The reader walks a {@link ByteBuffer} one data item at a time and
+ * never copies it: byte strings and skipped items are returned as slices of the buffer, so an
+ * attestation object can be decoded where it lies.
+ *
+ * <p>WebAuthn requires the CTAP2 canonical encoding, so indefinite-length items are rejected. Every
+ * length is checked against the bytes left before anything is read; malformed input raises an
+ * {@link IllegalArgumentException} rather than a buffer exception.
+ *
+ * <pre>{@code
+ * CborReader reader = new CborReader(attestationObject.asByteBuffer());
+ * for (int i = reader.readMapHeader(); i > 0; i--) {
+ *   String key = reader.readTextString();
+ *   ByteBuffer value = reader.readRaw();
+ * }
+ * }</pre>
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc8949">RFC 8949: Concise Binary Object
+ *     Representation (CBOR)</a>
+ * @see <a href="https://www.w3.org/TR/webauthn-3/#sctn-conforming-all-classes">WebAuthn: CTAP2
+ *     canonical CBOR encoding form</a>
+ */
+public final class CborReader {
+
+  /** The major type of a CBOR data item, in the order of its 3-bit code. */
+  public enum MajorType {
+    /** An unsigned integer. */
+    UNSIGNED_INTEGER,
+    /** A negative integer. */
+    NEGATIVE_INTEGER,
+    /** A byte string. */
+    BYTE_STRING,
+    /** A UTF-8 text string. */
+    TEXT_STRING,
+    /** An array of data items. */
+    ARRAY,
+    /** A map of pairs of data items. */
+    MAP,
+    /** A tagged data item. */
+    TAG,
+    /** A simple value, such as a boolean or null, or a floating-point number. */
+    SIMPLE
+  }
+
+  private static final MajorType[] TYPES = MajorType.values();
+  private static final int SIMPLE_FALSE = 20;
+  private static final int SIMPLE_TRUE = 21;
+  private static final int SIMPLE_NULL = 22;
+
+  private final ByteBuffer buffer;
+
+  /**
+   * Constructs a CborReader over the remaining bytes of a buffer. The position of the given buffer
+   * is left untouched; the reader shares its content without copying it.
+   *
+   * @param buffer The buffer holding the encoded data items.
+   */
+  public CborReader(ByteBuffer buffer) {
+    this.buffer = buffer.slice();
+  }
+
+  /**
+   * Checks whether any byte is left to read.
+   *
+   * @return {@code true} if another data item may follow, {@code false} at the end of the input.
+   */
+  public boolean hasNext() {
+    return buffer.hasRemaining();
+  }
+
+  /**
+   * Gets the offset of the next data item, relative to the start of the input.
+   *
+   * @return The number of bytes read so far.
+   */
+  public int position() {
+    return buffer.position();
+  }
+
+  /**
+   * Gets the major type of the next data item without reading it.
+   *
+   * @return The major type of the next data item.
+   * @throws IllegalArgumentException If there is no data item left.
+   */
+  public MajorType peek() {
+    require(1);
+    return TYPES[(buffer.get(buffer.position()) & 0xff) >>> 5];
+  }
+
+  /**
+   * Reads an integer, of either sign.
+   *
+   * @return The value of the integer.
+   * @throws IllegalArgumentException If the next data item is not an integer or does not fit in a
+   *     {@code long}.
+   */
+  public long readInteger() {
+    MajorType type = peek();
+    if (type != MajorType.UNSIGNED_INTEGER && type != MajorType.NEGATIVE_INTEGER) {
+      throw unexpected(type, "an integer");
+    }
+    long value = readHead();
+    if (value < 0) {
+      throw new IllegalArgumentException("CBOR integer does not fit in 64-bit signed range");
+    }
+    return type == MajorType.UNSIGNED_INTEGER ? value : -1 - value;
+  }
+
+  /**
+   * Reads a byte string.
+   *
+   * @return A slice of the input holding the bytes of the string, positioned at its start.
+   * @throws IllegalArgumentException If the next data item is not a byte string.
+   */
+  public ByteBuffer readByteString() {
+    expect(MajorType.BYTE_STRING, "a byte string");
+    return slice(length(readHead()));
+  }
+
+  /**
+   * Reads a text string.
+   *
+   * @return The decoded string.
+   * @throws IllegalArgumentException If the next data item is not a valid UTF-8 text string.
+   */
+  public String readTextString() {
+    expect(MajorType.TEXT_STRING, "a text string");
+    ByteBuffer bytes = slice(length(readHead()));
+    try {
+      return StandardCharsets.UTF_8.newDecoder().decode(bytes).toString();
+    } catch (CharacterCodingException e) {
+      throw new IllegalArgumentException("CBOR text string is not valid UTF-8", e);
+    }
+  }
+
+  /**
+   * Reads the header of an array. The elements follow, to be read one by one.
+   *
+   * @return The number of elements of the array.
+   * @throws IllegalArgumentException If the next data item is not an array.
+   */
+  public int readArrayHeader() {
+    expect(MajorType.ARRAY, "an array");
+    return count(readHead(), 1);
+  }
+
+  /**
+   * Reads the header of a map. The pairs follow, to be read key then value.
+   *
+   * @return The number of pairs of the map.
+   * @throws IllegalArgumentException If the next data item is not a map.
+   */
+  public int readMapHeader() {
+    expect(MajorType.MAP, "a map");
+    return count(readHead(), 2);
+  }
+
+  /**
+   * Reads a boolean.
+   *
+   * @return The value of the boolean.
+   * @throws IllegalArgumentException If the next data item is not a boolean.
+   */
+  public boolean readBoolean() {
+    expect(MajorType.SIMPLE, "a boolean");
+    long value = readHead();
+    if (value != SIMPLE_FALSE && value != SIMPLE_TRUE) {
+      throw new IllegalArgumentException("Expected a CBOR boolean, found simple value " + value);
+    }
+    return value == SIMPLE_TRUE;
+  }
+
+  /**
+   * Checks whether the next data item is null, reading it if so.
+   *
+   * @return {@code true} if a null was read, {@code false} if the next data item is not null.
+   */
+  public boolean readNull() {
+    if (peek() == MajorType.SIMPLE && (buffer.get(buffer.position()) & 0x1f) == SIMPLE_NULL) {
+      buffer.get();
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Reads the next data item, nested items included, without decoding it.
+   *
+   * @return A slice of the input holding the encoded data item, positioned at its start.
+   * @throws IllegalArgumentException If the data item is malformed or truncated.
+   */
+  public ByteBuffer readRaw() {
+    int start = buffer.position();
+    skip();
+    return buffer.slice(start, buffer.position() - start);
+  }
+
+  /**
+   * Skips the next data item, nested items included. Nesting is tracked with a counter of the items
+   * left rather than by recursion, so deeply nested input cannot exhaust the stack.
+   *
+   * @throws IllegalArgumentException If the data item is malformed or truncated.
+   */
+  public void skip() {
+    long pending = 1;
+    while (pending > 0) {
+      MajorType type = peek();
+      long argument = readHead();
+      pending--;
+      switch (type) {
+        case BYTE_STRING, TEXT_STRING:
+          buffer.position(buffer.position() + length(argument));
+          break;
+        case ARRAY:
+          pending += count(argument, 1);
+          break;
+        case MAP:
+          pending += 2L * count(argument, 2);
+          break;
+        case TAG:
+          pending++;
+          break;
+        default:
+          break;
+      }
+      // every pending item takes at least one byte
+      if (pending > buffer.remaining()) {
+        throw new IllegalArgumentException("Truncated CBOR data item");
+      }
+    }
+  }
+
+  /**
+   * Reads the initial byte of a data item and its argument: the value of an integer, the length of
+   * a string, the size of an array or map, the number of a tag or the simple value. The bytes of a
+   * floating-point number are consumed as its argument.
+   *
+   * @return The argument, negative if it exceeds the range of a {@code long}.
+   * @throws IllegalArgumentException If the item uses a reserved or indefinite length encoding.
+   */
+  private long readHead() {
+    require(1);
+    int initial = buffer.get() & 0xff;
+    int info = initial & 0x1f;
+    if (info < 24) {
+      return info;
+    }
+    switch (info) {
+      case 24:
+        require(1);
+        return buffer.get() & 0xffL;
+      case 25:
+        require(2);
+        return buffer.getShort() & 0xffffL;
+      case 26:
+        require(4);
+        return buffer.getInt() & 0xffffffffL;
+      case 27:
+        require(8);
+        return buffer.getLong();
+      case 31:
+        throw new IllegalArgumentException(
+            "Indefinite-length CBOR items are not allowed in canonical encoding");
+      default:
+        throw new IllegalArgumentException("Reserved CBOR additional information " + info);
+    }
+  }
+
+  /**
+   * Returns a slice of the next bytes and moves past them.
+   *
+   * @param length The number of bytes.
+   * @return The slice, positioned at its start.
+   */
+  private ByteBuffer slice(int length) {
+    ByteBuffer result = buffer.slice(buffer.position(), length);
+    buffer.position(buffer.position() + length);
+    return result;
+  }
+
+  /**
+   * Checks a string length against the bytes left.
+   *
+   * @param argument The length read from the head of the string.
+   * @return The length.
+   * @throws IllegalArgumentException If fewer bytes are left.
+   */
+  private int length(long argument) {
+    if (argument < 0 || argument > buffer.remaining()) {
+      throw new IllegalArgumentException("Truncated CBOR string of length " + argument);
+    }
+    return (int) argument;
+  }
+
+  /**
+   * Checks the size of an array or map against the bytes left, each of its items taking at least
+   * one byte.
+   *
+   * @param argument The size read from the head of the array or map.
+   * @param itemsPerEntry The number of data items per entry: 1 for arrays, 2 for maps.
+   * @return The size.
+   * @throws IllegalArgumentException If too few bytes are left for the announced items.
+   */
+  private int count(long argument, int itemsPerEntry) {
+    if (argument < 0 || argument > buffer.remaining() / itemsPerEntry) {
+      throw new IllegalArgumentException("Truncated CBOR container of size " + argument);
+    }
+    return (int) argument;
+  }
+
+  /**
+   * Checks that enough bytes are left.
+   *
+   * @param bytes The number of bytes needed.
+   * @throws IllegalArgumentException If fewer bytes are left.
+   */
+  private void require(int bytes) {
+    if (buffer.remaining() < bytes) {
+      throw new IllegalArgumentException("Unexpected end of CBOR input");
+    }
+  }
+
+  /**
+   * Checks the major type of the next data item.
+   *
+   * @param type The expected major type.
+   * @param description The expected item, for the error message.
+   * @throws IllegalArgumentException If the next data item has another major type.
+   */
+  private void expect(MajorType type, String description) {
+    MajorType actual = peek();
+    if (actual != type) {
+      throw unexpected(actual, description);
+    }
+  }
+
+  private static IllegalArgumentException unexpected(MajorType actual, String description) {
+    return new IllegalArgumentException("Expected " + description + " in CBOR, found " + actual);
+  }
+}
@@ -0,0 +1,130 @@
+package com.webforj.addons.services.webauthn.data;
+
+import com.webforj.addons.services.webauthn.cbor.CborReader;
+import java.nio.ByteBuffer;
+
+/**
+ * The attestation object returned by an authenticator on registration: a CBOR map holding the
+ * attestation statement format ({@code fmt}), the attestation statement ({@code attStmt}) and the
+ * authenticator data ({@code authData}).
+ *
+ * <p>The object is decoded in place with a {@link CborReader}: the attestation statement and the
+ * authenticator data are read-only slices of the decoded bytes, not copies.
+ *
+ * @see <a href="https://www.w3.org/TR/webauthn-3/#sctn-attestation">Web Authentication (WebAuthn)
+ *     Level 3: Attestation</a>
+ */
+public final class AttestationObject {
+
+  private final String format;
+  private final ByteBuffer attestationStatement;
+  private final ByteBuffer authData;
+  private final AuthenticatorData authenticatorData;
+
+  private AttestationObject(String format, ByteBuffer attestationStatement, ByteBuffer authData) {
+    this.format = format;
+    this.attestationStatement = attestationStatement;
+    this.authData = authData;
+    this.authenticatorData = AuthenticatorData.decode(authData);
+  }
+
+  /**
+   * Decodes a base64url-encoded attestation object, as found in {@link
+   * AuthenticatorAttestationResponse#getAttestationObject()}.
+   *
+   * @param base64Url The base64url-encoded attestation object.
+   * @return The decoded attestation object.
+   * @throws IllegalArgumentException If the attestation object is malformed.
+   */
+  public static AttestationObject fromBase64Url(String base64Url) {
+    return decode(ByteArray.fromBase64Url(base64Url).asByteBuffer());
+  }
+
+  /**
+   * Decodes an attestation object from the remaining bytes of a buffer, which must hold exactly the
+   * attestation object. The position of the buffer is left untouched.
+   *
+   * @param buffer The buffer holding the CBOR-encoded attestation object.
+   * @return The decoded attestation object, whose slices share the content of the buffer.
+   * @throws IllegalArgumentException If the attestation object is malformed or lacks a member.
+   */
+  public static AttestationObject decode(ByteBuffer buffer) {
+    CborReader reader = new CborReader(buffer.asReadOnlyBuffer());
+    String format = null;
+    ByteBuffer attestationStatement = null;
+    ByteBuffer authData = null;
+
+    for (int i = reader.readMapHeader(); i > 0; i--) {
+      String key = reader.readTextString();
+      switch (key) {
+        case "fmt":
+          format = reader.readTextString();
+          break;
+        case "attStmt":
+          if (reader.peek() != CborReader.MajorType.MAP) {
+            throw new IllegalArgumentException("attStmt must be a CBOR map");
+          }
+          attestationStatement = reader.readRaw();
+          break;
+        case "authData":
+          authData = reader.readByteString();
+          break;
+        default:
+          reader.skip();
+          break;
+      }
+    }
+    if (reader.hasNext()) {
+      throw new IllegalArgumentException("Unexpected trailing bytes after attestation object");
+    }
+
+    if (format == null) {
+      throw new IllegalArgumentException("Attestation object is missing fmt");
+    }
+    if (attestationStatement == null) {
+      throw new IllegalArgumentException("Attestation object is missing attStmt");
+    }
+    if (authData == null) {
+      throw new IllegalArgumentException("Attestation object is missing authData");
+    }
+    return new AttestationObject(format, attestationStatement, authData);
+  }
+
+  /**
+   * Gets the attestation statement format identifier, such as {@code none} or {@code packed}.
+   *
+   * @return The attestation statement format.
+   * @see <a href="https://www.w3.org/TR/webauthn-3/#sctn-defined-attestation-formats">Defined
+   *     Attestation Statement Formats</a>
+   */
+  public String getFormat() {
+    return format;
+  }
+
+  /**
+   * Gets the attestation statement, whose syntax depends on the format.
+   *
+   * @return A read-only buffer holding the CBOR-encoded attestation statement map.
+   */
+  public ByteBuffer getAttestationStatement() {
+    return attestationStatement.duplicate();
+  }
+
+  /**
+   * Gets the raw authenticator data, as signed by the attestation statement.
+   *
+   * @return A read-only buffer holding the authenticator data bytes.
+   */
+  public ByteBuffer getAuthData() {
+    return authData.duplicate();
+  }
+
+  /**
+   * Gets the decoded authenticator data.
+   *
+   * @return The authenticator data.
+   */
+  public AuthenticatorData getAuthenticatorData() {
+    return authenticatorData;
+  }
+}
@@ -0,0 +1,312 @@
+package com.webforj.addons.services.webauthn.data;
+
+import com.webforj.addons.services.webauthn.cbor.CborReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.UUID;
+
+/**
+ * The authenticator data returned by an authenticator for registration and authentication: the hash
+ * of the RP ID the credential is scoped to, the flags, the signature counter and, on registration,
+ * the attested credential data holding the new credential's ID and public key.
+ *
+ * <p>The data is decoded in place: the hash, the credential ID, the public key and the extensions
+ * are read-only slices of the decoded buffer, not copies.
+ *
+ * @see <a href="https://www.w3.org/TR/webauthn-3/#sctn-authenticator-data">Web Authentication
+ *     (WebAuthn) Level 3: Authenticator Data</a>
+ */
+public final class AuthenticatorData {
+
+  private static final int RP_ID_HASH_LENGTH = 32;
+  private static final int AAGUID_LENGTH = 16;
+
+  /** Flag set when the user was present. */
+  private static final int FLAG_UP = 0x01;
+
+  /** Flag set when the user was verified. */
+  private static final int FLAG_UV = 0x04;
+
+  /** Flag set when the credential is eligible for backup. */
+  private static final int FLAG_BE = 0x08;
+
+  /** Flag set when the credential is backed up. */
+  private static final int FLAG_BS = 0x10;
+
+  /** Flag set when attested credential data is included. */
+  private static final int FLAG_AT = 0x40;
+
+  /** Flag set when extension data is included. */
+  private static final int FLAG_ED = 0x80;
+
+  /** The COSE key parameter holding the algorithm of the key. */
+  private static final long COSE_KEY_ALG = 3;
+
+  private final ByteBuffer rpIdHash;
+  private final int flags;
+  private final long signCount;
+  private final UUID aaguid;
+  private final ByteBuffer credentialId;
+  private final ByteBuffer credentialPublicKey;
+  private final ByteBuffer extensions;
+
+  private AuthenticatorData(
+      ByteBuffer rpIdHash,
+      int flags,
+      long signCount,
+      UUID aaguid,
+      ByteBuffer credentialId,
+      ByteBuffer credentialPublicKey,
+      ByteBuffer extensions) {
+    this.rpIdHash = rpIdHash;
+    this.flags = flags;
+    this.signCount = signCount;
+    this.aaguid = aaguid;
+    this.credentialId = credentialId;
+    this.credentialPublicKey = credentialPublicKey;
+    this.extensions = extensions;
+  }
+
+  /**
+   * Decodes base64url-encoded authenticator data, such as the {@code authenticatorData} of an
+   * assertion response.
+   *
+   * @param base64Url The base64url-encoded authenticator data.
+   * @return The decoded authenticator data.
+   * @throws IllegalArgumentException If the authenticator data is malformed.
+   */
+  public static AuthenticatorData fromBase64Url(String base64Url) {
+    return decode(ByteArray.fromBase64Url(base64Url).asByteBuffer());
+  }
+
+  /**
+   * Decodes authenticator data from the remaining bytes of a buffer, which must hold exactly the
+   * authenticator data. The position of the buffer is left untouched.
+   *
+   * @param buffer The buffer holding the authenticator data.
+   * @return The decoded authenticator data, whose slices share the content of the buffer.
+   * @throws IllegalArgumentException If the authenticator data is malformed.
+   */
+  public static AuthenticatorData decode(ByteBuffer buffer) {
+    ByteBuffer in = buffer.slice().asReadOnlyBuffer();
+    if (in.remaining() < RP_ID_HASH_LENGTH + 5) {
+      throw new IllegalArgumentException(
+          "Authenticator data is too short: " + in.remaining() + " bytes");
+    }
+
+    ByteBuffer rpIdHash = take(in, RP_ID_HASH_LENGTH);
+    int flags = in.get() & 0xff;
+    long signCount = in.getInt() & 0xffffffffL;
+
+    UUID aaguid = null;
+    ByteBuffer credentialId = null;
+    ByteBuffer credentialPublicKey = null;
+    if ((flags & FLAG_AT) != 0) {
+      if (in.remaining() < AAGUID_LENGTH + 2) {
+        throw new IllegalArgumentException("Attested credential data is truncated");
+      }
+      aaguid = new UUID(in.getLong(), in.getLong());
+      int length = in.getShort() & 0xffff;
+      if (in.remaining() < length) {
+        throw new IllegalArgumentException("Credential ID of " + length + " bytes is truncated");
+      }
+      credentialId = take(in, length);
+      credentialPublicKey = readCbor(in);
+    }
+
+    ByteBuffer extensions = null;
+    if ((flags & FLAG_ED) != 0) {
+      extensions = readCbor(in);
+    }
+    if (in.hasRemaining()) {
+      throw new IllegalArgumentException(
+          "Authenticator data has " + in.remaining() + " unexpected trailing bytes");
+    }
+    return new AuthenticatorData(
+        rpIdHash, flags, signCount, aaguid, credentialId, credentialPublicKey, extensions);
+  }
+
+  /**
+   * Takes the next bytes of a buffer as a slice.
+   *
+   * @param in The buffer.
+   * @param length The number of bytes.
+   * @return The slice.
+   */
+  private static ByteBuffer take(ByteBuffer in, int length) {
+    ByteBuffer result = in.slice(in.position(), length);
+    in.position(in.position() + length);
+    return result;
+  }
+
+  /**
+   * Takes the next CBOR data item of a buffer as a slice.
+   *
+   * @param in The buffer.
+   * @return The slice holding the encoded data item.
+   */
+  private static ByteBuffer readCbor(ByteBuffer in) {
+    ByteBuffer item = new CborReader(in).readRaw();
+    in.position(in.position() + item.remaining());
+    return item;
+  }
+
+  /**
+   * Gets the SHA-256 hash of the RP ID the credential is scoped to.
+   *
+   * @return A read-only buffer holding the 32 bytes of the hash.
+   */
+  public ByteBuffer getRpIdHash() {
+    return rpIdHash.duplicate();
+  }
+
+  /**
+   * Checks whether the credential is scoped to the given RP ID, by comparing the hash of the RP ID
+   * in constant time.
+   *
+   * @param rpId The RP ID, typically the domain of the relying party.
+   * @return {@code true} if the RP ID hash matches, {@code false} otherwise.
+   */
+  public boolean isScopedTo(String rpId) {
+    try {
+      byte[] expected =
+          MessageDigest.getInstance("SHA-256").digest(rpId.getBytes(StandardCharsets.UTF_8));
+      byte[] actual = new byte[RP_ID_HASH_LENGTH];
+      rpIdHash.duplicate().get(actual);
+      return MessageDigest.isEqual(expected, actual);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  /**
+   * Gets the flags byte.
+   *
+   * @return The flags, as an unsigned value.
+   */
+  public int getFlags() {
+    return flags;
+  }
+
+  /**
+   * Checks whether the user was present (UP flag).
+   *
+   * @return {@code true} if the user was present, {@code false} otherwise.
+   */
+  public boolean isUserPresent() {
+    return (flags & FLAG_UP) != 0;
+  }
+
+  /**
+   * Checks whether the user was verified (UV flag).
+   *
+   * @return {@code true} if the user was verified, {@code false} otherwise.
+   */
+  public boolean isUserVerified() {
+    return (flags & FLAG_UV) != 0;
+  }
+
+  /**
+   * Checks whether the credential is eligible for backup (BE flag).
+   *
+   * @return {@code true} if the credential may be backed up, {@code false} otherwise.
+   */
+  public boolean isBackupEligible() {
+    return (flags & FLAG_BE) != 0;
+  }
+
+  /**
+   * Checks whether the credential is backed up (BS flag).
+   *
+   * @return {@code true} if the credential is backed up, {@code false} otherwise.
+   */
+  public boolean isBackedUp() {
+    return (flags & FLAG_BS) != 0;
+  }
+
+  /**
+   * Checks whether attested credential data is included (AT flag), which is the case on
+   * registration.
+   *
+   * @return {@code true} if the credential ID and public key are available, {@code false}
+   *     otherwise.
+   */
+  public boolean hasAttestedCredentialData() {
+    return (flags & FLAG_AT) != 0;
+  }
+
+  /**
+   * Gets the signature counter.
+   *
+   * @return The signature counter, 0 if the authenticator does not implement one.
+   */
+  public long getSignCount() {
+    return signCount;
+  }
+
+  /**
+   * Gets the AAGUID identifying the model of the authenticator.
+   *
+   * @return The AAGUID, or {@code null} without attested credential data.
+   */
+  public UUID getAaguid() {
+    return aaguid;
+  }
+
+  /**
+   * Gets the ID of the credential.
+   *
+   * @return A read-only buffer holding the credential ID, or {@code null} without attested
+   *     credential data.
+   */
+  public ByteBuffer getCredentialId() {
+    return credentialId == null ? null : credentialId.duplicate();
+  }
+
+  /**
+   * Gets the public key of the credential, as a CBOR-encoded COSE key.
+   *
+   * @return A read-only buffer holding the encoded COSE key, or {@code null} without attested
+   *     credential data.
+   * @see <a href="https://www.rfc-editor.org/rfc/rfc9052#section-7">RFC 9052: COSE Key Objects</a>
+   */
+  public ByteBuffer getCredentialPublicKey() {
+    return credentialPublicKey == null ? null : credentialPublicKey.duplicate();
+  }
+
+  /**
+   * Gets the COSE algorithm identifier declared by the credential public key.
+   *
+   * @return The algorithm identifier, such as -7 for ES256.
+   * @throws IllegalArgumentException If there is no credential public key or it declares no
+   *     algorithm.
+   */
+  public long getCredentialPublicKeyAlgorithm() {
+    if (credentialPublicKey == null) {
+      throw new IllegalArgumentException("Authenticator data holds no credential public key");
+    }
+    CborReader reader = new CborReader(credentialPublicKey);
+    for (int i = reader.readMapHeader(); i > 0; i--) {
+      // labels may be negative, such as -1 for the curve, or text
+      if (reader.peek() != CborReader.MajorType.UNSIGNED_INTEGER) {
+        reader.skip();
+      } else if (reader.readInteger() == COSE_KEY_ALG) {
+        return reader.readInteger();
+      }
+      reader.skip();
+    }
+    throw new IllegalArgumentException("Credential public key declares no algorithm");
+  }
+
+  /**
+   * Gets the extension outputs of the authenticator, as a CBOR-encoded map.
+   *
+   * @return A read-only buffer holding the encoded extension outputs, or {@code null} if there are
+   *     none.
+   */
+  public ByteBuffer getExtensions() {
+    return extensions == null ? null : extensions.duplicate();
+  }
+}
@@ -1,5 +1,6 @@
 package com.webforj.addons.services.webauthn.data;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
 import java.util.Arrays;
@@ -170,6 +171,17 @@ public final class ByteArray {
     return Arrays.copyOf(this.bytes, this.bytes.length);
   }
 
+  /**
+   * Gets a read-only view of the raw byte contents of this ByteArray. Unlike {@link #getBytes()},
+   * the contents are not copied, so binary structures such as an attestation object can be decoded
+   * in place.
+   *
+   * @return A read-only buffer over the contents of this ByteArray, positioned at its start.
+   */
+  public ByteBuffer asByteBuffer() {
+    return ByteBuffer.wrap(this.bytes).asReadOnlyBuffer();
+  }
+
   /**
    * Gets the content bytes encoded as classic Base64 data. This method returns the content bytes of
    * this ByteArray encoded as classic Base64 data.
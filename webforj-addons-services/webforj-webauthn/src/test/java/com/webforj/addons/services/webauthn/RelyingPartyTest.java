@@ -0,0 +1,178 @@
+package com.webforj.addons.services.webauthn;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.webforj.Page;
+import com.webforj.addons.services.webauthn.data.AuthenticationResponse;
+import com.webforj.addons.services.webauthn.data.AuthenticatorAssertionResponse;
+import com.webforj.addons.services.webauthn.data.AuthenticatorAttestationResponse;
+import com.webforj.addons.services.webauthn.data.ByteArray;
+import com.webforj.addons.services.webauthn.data.RegistrationResponse;
+import com.webforj.addons.services.webauthn.data.RelyingPartyIdentity;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.MockedStatic;
+
+class RelyingPartyTest {
+
+  private static final String ORIGIN = "https://example.com";
+  private static final String CREDENTIAL_ID = new ByteArray(new byte[] {1, 2, 3, 4}).getBase64Url();
+
+  private MockedStatic<Page> page;
+
+  @BeforeEach
+  void setUp() {
+    page = mockStatic(Page.class);
+    page.when(Page::getCurrent).thenReturn(mock(Page.class));
+  }
+
+  @AfterEach
+  void tearDown() {
+    page.close();
+  }
+
+  private static byte[] authData(String rpId, int flags) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(MessageDigest.getInstance("SHA-256").digest(rpId.getBytes(StandardCharsets.UTF_8)));
+    out.write(flags);
+    out.write(new byte[] {0, 0, 0, 1});
+    if ((flags & 0x40) != 0) {
+      out.write(new byte[16]);
+      out.write(new byte[] {0, 4, 1, 2, 3, 4});
+      // ES256 COSE key: {1: 2, 3: -7, -1: 1, -2: x, -3: y}
+      out.write(new byte[] {(byte) 0xa5, 0x01, 0x02, 0x03, 0x26, 0x20, 0x01, 0x21, 0x58, 0x20});
+      out.write(new byte[32]);
+      out.write(new byte[] {0x22, 0x58, 0x20});
+      out.write(new byte[32]);
+    }
+    return out.toByteArray();
+  }
+
+  private static String clientData(String type) {
+    String json =
+        "{\"type\":\"%s\",\"challenge\":\"AAAA\",\"origin\":\"%s\"}".formatted(type, ORIGIN);
+    return new ByteArray(json.getBytes(StandardCharsets.UTF_8)).getBase64Url();
+  }
+
+  private static RegistrationResponse registration(byte[] authData, int algorithm) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.writeBytes(new byte[] {(byte) 0xa3, 0x63, 'f', 'm', 't', 0x64, 'n', 'o', 'n', 'e'});
+    out.writeBytes(new byte[] {0x67, 'a', 't', 't', 'S', 't', 'm', 't', (byte) 0xa0});
+    out.writeBytes(new byte[] {0x68, 'a', 'u', 't', 'h', 'D', 'a', 't', 'a', 0x58});
+    out.write(authData.length);
+    out.writeBytes(authData);
+
+    RegistrationResponse response = new RegistrationResponse();
+    response.setId(CREDENTIAL_ID);
+    response.setRawId(CREDENTIAL_ID);
+    return response
+        .setType("public-key")
+        .setResponse(
+            new AuthenticatorAttestationResponse()
+                .setClientDataJson(clientData("webauthn.create"))
+                .setAttestationObject(new ByteArray(out.toByteArray()).getBase64Url())
+                .setPublicKeyAlgorithm(algorithm));
+  }
+
+  private static AuthenticationResponse authentication(byte[] authData) {
+    AuthenticatorAssertionResponse assertion = new AuthenticatorAssertionResponse();
+    assertion.setClientDataJson(clientData("webauthn.get"));
+    assertion.setAuthenticatorData(
+        authData == null ? null : new ByteArray(authData).getBase64Url());
+
+    AuthenticationResponse response = new AuthenticationResponse();
+    response.setId(CREDENTIAL_ID);
+    response.setRawId(CREDENTIAL_ID);
+    return response.setType("public-key").setResponse(assertion);
+  }
+
+  private static void assertRejected(String message, Executable validation) {
+    IllegalArgumentException e = assertThrows(IllegalArgumentException.class, validation);
+    assertTrue(e.getMessage().startsWith(message), e.getMessage());
+  }
+
+  @Test
+  @DisplayName("Accept responses scoped to the RP ID with the user present")
+  void acceptValidResponses() throws Exception {
+    RelyingParty party =
+        new RelyingParty(new RelyingPartyIdentity("Example", "example.com"), ORIGIN);
+    RegistrationResponse registration = registration(authData("example.com", 0x45), -7);
+    AuthenticationResponse authentication = authentication(authData("example.com", 0x01));
+
+    assertSame(registration, party.validateRegistrationResponse(registration));
+    assertSame(authentication, party.validateAuthenticationResponse(authentication));
+  }
+
+  @Test
+  @DisplayName("Reject authenticator data scoped to another RP ID")
+  void rejectRpIdMismatch() throws Exception {
+    RelyingParty party =
+        new RelyingParty(new RelyingPartyIdentity("Example", "example.com"), ORIGIN);
+
+    assertRejected(
+        "Authenticator data RP ID hash does not match",
+        () -> party.validateRegistrationResponse(registration(authData("evil.example", 0x41), -7)));
+    assertRejected(
+        "Authenticator data RP ID hash does not match",
+        () -> party.validateAuthenticationResponse(authentication(authData("evil.example", 0x01))));
+  }
+
+  @Test
+  @DisplayName("Match the origin host when the RP ID is not set")
+  void matchOriginHostWithoutRpId() throws Exception {
+    RelyingParty party = new RelyingParty(new RelyingPartyIdentity("Example"), ORIGIN);
+
+    assertDoesNotThrow(
+        () -> party.validateAuthenticationResponse(authentication(authData("example.com", 0x01))));
+    assertRejected(
+        "Authenticator data RP ID hash does not match \"example.com\"",
+        () -> party.validateAuthenticationResponse(authentication(authData("example.org", 0x01))));
+  }
+
+  @Test
+  @DisplayName("Reject authenticator data without the user present")
+  void rejectUserNotPresent() throws Exception {
+    RelyingParty party =
+        new RelyingParty(new RelyingPartyIdentity("Example", "example.com"), ORIGIN);
+
+    assertRejected(
+        "User presence flag is not set",
+        () -> party.validateRegistrationResponse(registration(authData("example.com", 0x44), -7)));
+    assertRejected(
+        "User presence flag is not set",
+        () -> party.validateAuthenticationResponse(authentication(authData("example.com", 0x04))));
+  }
+
+  @Test
+  @DisplayName("Reject a registration without the expected credential public key")
+  void rejectRegistrationCredential() throws Exception {
+    RelyingParty party =
+        new RelyingParty(new RelyingPartyIdentity("Example", "example.com"), ORIGIN);
+
+    assertRejected(
+        "Authenticator data is missing attested credential data",
+        () -> party.validateRegistrationResponse(registration(authData("example.com", 0x01), -7)));
+    assertRejected(
+        "Unexpected credential public key algorithm -7, expected -257",
+        () ->
+            party.validateRegistrationResponse(registration(authData("example.com", 0x41), -257)));
+  }
+
+  @Test
+  @DisplayName("Reject an authentication without authenticator data")
+  void rejectMissingAuthenticatorData() {
+    RelyingParty party =
+        new RelyingParty(new RelyingPartyIdentity("Example", "example.com"), ORIGIN);
+
+    assertRejected(
+        "authenticatorData cannot be null",
+        () -> party.validateAuthenticationResponse(authentication(null)));
+  }
+}
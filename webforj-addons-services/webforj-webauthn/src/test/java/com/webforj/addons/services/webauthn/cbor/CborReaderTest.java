@@ -0,0 +1,89 @@
+package com.webforj.addons.services.webauthn.cbor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CborReaderTest {
+
+  private static CborReader reader(int... bytes) {
+    byte[] data = new byte[bytes.length];
+    for (int i = 0; i < bytes.length; i++) {
+      data[i] = (byte) bytes[i];
+    }
+    return new CborReader(ByteBuffer.wrap(data));
+  }
+
+  @Test
+  @DisplayName("Read integers of every width and sign")
+  void readIntegers() {
+    CborReader reader =
+        reader(0x17, 0x18, 0x18, 0x19, 0x01, 0x00, 0x1a, 0x00, 0x01, 0x00, 0x00, 0x20, 0x38, 0x63);
+
+    assertEquals(23, reader.readInteger());
+    assertEquals(24, reader.readInteger());
+    assertEquals(256, reader.readInteger());
+    assertEquals(65536, reader.readInteger());
+    assertEquals(-1, reader.readInteger());
+    assertEquals(-100, reader.readInteger());
+    assertFalse(reader.hasNext());
+  }
+
+  @Test
+  @DisplayName("Read strings, booleans and null")
+  void readScalars() {
+    CborReader reader = reader(0x43, 0x01, 0x02, 0x03, 0x63, 'f', 'm', 't', 0xf5, 0xf4, 0xf6);
+
+    ByteBuffer bytes = reader.readByteString();
+    assertEquals(3, bytes.remaining());
+    assertEquals(2, bytes.get(1));
+    assertEquals("fmt", reader.readTextString());
+    assertTrue(reader.readBoolean());
+    assertFalse(reader.readBoolean());
+    assertTrue(reader.readNull());
+    assertFalse(reader.hasNext());
+  }
+
+  @Test
+  @DisplayName("Return byte strings as slices of the input")
+  void sliceWithoutCopy() {
+    ByteBuffer input = ByteBuffer.wrap(new byte[] {0x42, 0x0a, 0x0b});
+    ByteBuffer bytes = new CborReader(input).readByteString();
+
+    input.put(1, (byte) 0x7f);
+    assertEquals(0x7f, bytes.get(0));
+    assertEquals(0, input.position());
+  }
+
+  @Test
+  @DisplayName("Skip and capture nested items")
+  void skipNested() {
+    // {"a": [1, {2: h'00'}], "b": 3}
+    CborReader reader =
+        reader(0xa2, 0x61, 'a', 0x82, 0x01, 0xa1, 0x02, 0x41, 0x00, 0x61, 'b', 0x03);
+
+    assertEquals(CborReader.MajorType.MAP, reader.peek());
+    assertEquals(2, reader.readMapHeader());
+    assertEquals("a", reader.readTextString());
+    ByteBuffer raw = reader.readRaw();
+    assertEquals(6, raw.remaining());
+    assertEquals(2, new CborReader(raw).readArrayHeader());
+    assertEquals("b", reader.readTextString());
+    assertEquals(3, reader.readInteger());
+    assertEquals(12, reader.position());
+  }
+
+  @Test
+  @DisplayName("Reject malformed and non-canonical input")
+  void rejectMalformed() {
+    assertThrows(IllegalArgumentException.class, () -> reader(0x43, 0x01).readByteString());
+    assertThrows(IllegalArgumentException.class, () -> reader(0x5f, 0x41, 0x00, 0xff).skip());
+    assertThrows(IllegalArgumentException.class, () -> reader(0x1c).readInteger());
+    assertThrows(IllegalArgumentException.class, () -> reader(0x9a, 0x7f, 0, 0, 0).skip());
+    assertThrows(IllegalArgumentException.class, () -> reader(0x62, 0xc3, 0x28).readTextString());
+    assertThrows(IllegalArgumentException.class, () -> reader(0x01).readTextString());
+    assertThrows(IllegalArgumentException.class, () -> reader().peek());
+  }
+}
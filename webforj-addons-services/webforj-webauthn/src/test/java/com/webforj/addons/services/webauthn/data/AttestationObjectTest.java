@@ -0,0 +1,148 @@
+package com.webforj.addons.services.webauthn.data;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AttestationObjectTest {
+
+  private static final UUID AAGUID = UUID.fromString("adce0002-35bc-c60a-648b-0b25f1f05503");
+
+  // ES256 COSE key with zeroed coordinates, its labels among 1, 3, -1, -2 and -3 in this order
+  private static byte[] coseKey(int... labels) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(0xa0 + labels.length);
+    for (int label : labels) {
+      if (label == 1) {
+        // kty: EC2
+        out.writeBytes(new byte[] {0x01, 0x02});
+      } else if (label == 3) {
+        // alg: ES256
+        out.writeBytes(new byte[] {0x03, 0x26});
+      } else if (label == -1) {
+        // crv: P-256
+        out.writeBytes(new byte[] {0x20, 0x01});
+      } else {
+        out.writeBytes(new byte[] {(byte) (0x1f - label), 0x58, 0x20});
+        out.writeBytes(new byte[32]);
+      }
+    }
+    return out.toByteArray();
+  }
+
+  private static byte[] authData(String rpId, int flags, byte[] credentialId, byte[] coseKey)
+      throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(MessageDigest.getInstance("SHA-256").digest(rpId.getBytes(StandardCharsets.UTF_8)));
+    out.write(flags);
+    out.write(new byte[] {0, 0, 0x01, 0x02});
+    if ((flags & 0x40) != 0) {
+      out.write(
+          ByteBuffer.allocate(16)
+              .putLong(AAGUID.getMostSignificantBits())
+              .putLong(AAGUID.getLeastSignificantBits())
+              .array());
+      out.write(0);
+      out.write(credentialId.length);
+      out.write(credentialId);
+      out.write(coseKey);
+    }
+    return out.toByteArray();
+  }
+
+  private static byte[] authData(int flags, byte[] credentialId) throws Exception {
+    return authData("example.com", flags, credentialId, coseKey(1, 3, -1, -2, -3));
+  }
+
+  private static byte[] attestationObject(byte[] authData) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(new byte[] {(byte) 0xa3, 0x63, 'f', 'm', 't', 0x64, 'n', 'o', 'n', 'e'});
+    out.write(new byte[] {0x67, 'a', 't', 't', 'S', 't', 'm', 't', (byte) 0xa0});
+    out.write(new byte[] {0x68, 'a', 'u', 't', 'h', 'D', 'a', 't', 'a', 0x59});
+    out.write(authData.length >> 8);
+    out.write(authData.length);
+    out.write(authData);
+    return out.toByteArray();
+  }
+
+  @Test
+  @DisplayName("Decode a none attestation and its attested credential data")
+  void decodeNoneAttestation() throws Exception {
+    byte[] credentialId = {1, 2, 3, 4};
+    String encoded = new ByteArray(attestationObject(authData(0x45, credentialId))).getBase64Url();
+
+    AttestationObject attestation = AttestationObject.fromBase64Url(encoded);
+    AuthenticatorData data = attestation.getAuthenticatorData();
+
+    assertEquals("none", attestation.getFormat());
+    assertEquals(1, attestation.getAttestationStatement().remaining());
+    assertTrue(data.isScopedTo("example.com"));
+    assertFalse(data.isScopedTo("evil.example"));
+    assertTrue(data.isUserPresent());
+    assertTrue(data.isUserVerified());
+    assertFalse(data.isBackupEligible());
+    assertTrue(data.hasAttestedCredentialData());
+    assertEquals(0x0102, data.getSignCount());
+    assertEquals(AAGUID, data.getAaguid());
+    assertEquals(ByteBuffer.wrap(credentialId), data.getCredentialId());
+    assertEquals(77, data.getCredentialPublicKey().remaining());
+    assertEquals(-7, data.getCredentialPublicKeyAlgorithm());
+    assertNull(data.getExtensions());
+  }
+
+  @Test
+  @DisplayName("Find the algorithm after negative labels")
+  void findAlgorithmAfterNegativeLabels() throws Exception {
+    byte[] credentialId = {1, 2, 3, 4};
+    AuthenticatorData data =
+        AuthenticatorData.decode(
+            ByteBuffer.wrap(
+                authData("example.com", 0x41, credentialId, coseKey(1, -1, -2, -3, 3))));
+
+    assertEquals(77, data.getCredentialPublicKey().remaining());
+    assertEquals(-7, data.getCredentialPublicKeyAlgorithm());
+
+    AuthenticatorData noAlgorithm =
+        AuthenticatorData.decode(
+            ByteBuffer.wrap(authData("example.com", 0x41, credentialId, coseKey(1, -1, -2, -3))));
+    assertThrows(IllegalArgumentException.class, noAlgorithm::getCredentialPublicKeyAlgorithm);
+  }
+
+  @Test
+  @DisplayName("Decode authenticator data without attested credential data")
+  void decodeAssertionData() throws Exception {
+    AuthenticatorData data =
+        AuthenticatorData.fromBase64Url(new ByteArray(authData(0x01, null)).getBase64Url());
+
+    assertTrue(data.isUserPresent());
+    assertFalse(data.hasAttestedCredentialData());
+    assertNull(data.getAaguid());
+    assertNull(data.getCredentialId());
+    assertThrows(IllegalArgumentException.class, data::getCredentialPublicKeyAlgorithm);
+  }
+
+  @Test
+  @DisplayName("Reject truncated data and missing members")
+  void rejectMalformed() throws Exception {
+    byte[] authData = authData(0x41, new byte[] {9});
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> AuthenticatorData.decode(ByteBuffer.wrap(authData, 0, authData.length - 1)));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> AuthenticatorData.decode(ByteBuffer.wrap(Arrays.copyOf(authData, 100))));
+
+    byte[] missingAuthData = {(byte) 0xa1, 0x63, 'f', 'm', 't', 0x64, 'n', 'o', 'n', 'e'};
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> AttestationObject.decode(ByteBuffer.wrap(missingAuthData)));
+  }
+}